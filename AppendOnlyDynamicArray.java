@@ -0,0 +1,385 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementation of the DynamicArrayADT that many threads can append to at once without any locks,
+ * for sequences like event logs where producers only ever add to the end and readers scan behind them.
+ * The elements are stored in chunks whose lengths are powers of two: 16, 32, 64 and so on, each one twice as long
+ * as the last. Growing only ever adds a new chunk, so existing elements are never copied and a reader holding a
+ * chunk never sees it replaced. The chunk and position for an index are found with a couple of bit operations.
+ * A producer claims a slot with getAndIncrement on the tail index, writes its element there and then moves the
+ * published size forward over every slot that has been written. size only counts a prefix of fully written slots,
+ * so a reader can get any index below size, and a slow producer only holds back the published size, never another producer.
+ * Elements can't be null, since an empty slot is how an unwritten element is recognized.
+ * Elements can only be appended, so set (except at index size), add and remove throw an UnsupportedOperationException.
+ * @param <T> the type of the AppendOnlyDynamicArray object must be specified when a new instance is declared.
+ */
+public class AppendOnlyDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the log2 of the length of the first chunk
+     */
+    private static final int FIRST_CHUNK_BITS = 4;
+
+    /**
+     * the length of the first chunk, each chunk after it is twice as long as the one before
+     */
+    private static final int FIRST_CHUNK = 1 << FIRST_CHUNK_BITS;
+
+    /**
+     * the largest number of elements, which keeps index + FIRST_CHUNK from overflowing
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_CHUNK + 1;
+
+    /**
+     * used to write and read a slot with volatile semantics. Release and acquire aren't enough: a producer writes
+     * its slot and then reads published, while another producer moves published and then reads the slot, and only
+     * volatile accesses stop both of them missing the other's write, which would leave the slot unpublished.
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * the chunks holding the elements, where a chunk is null until the first element is appended to it
+     */
+    private final AtomicReferenceArray<Object[]> chunks = new AtomicReferenceArray<Object[]>(31 - FIRST_CHUNK_BITS);
+
+    /**
+     * the index of the next slot to be claimed by a producer
+     */
+    private final AtomicInteger tail = new AtomicInteger(0);
+
+    /**
+     * the number of elements that are written and visible to readers, every slot below this has been written
+     */
+    private final AtomicInteger published = new AtomicInteger(0);
+
+    /**
+     * Constructor for an empty AppendOnlyDynamicArray. No chunks are allocated until the first append.
+     */
+    public AppendOnlyDynamicArray() {
+    }
+
+    /**
+     * private constructor for an AppendOnlyDynamicArray holding the first numVals elements of an array,
+     * used by the functional methods before the new object is visible to any other thread.
+     * @param items the elements being copied in.
+     * @param numVals the number of elements being copied in.
+     */
+    private AppendOnlyDynamicArray(Object[] items, int numVals) {
+        int copied = 0;
+        for (int k = 0; copied < numVals; k++) {
+            Object[] chunk = new Object[FIRST_CHUNK << k];
+            int len = Math.min(chunk.length, numVals - copied);
+            System.arraycopy(items, copied, chunk, 0, len);
+            this.chunks.set(k, chunk);
+            copied += len;
+        }
+        this.tail.set(numVals);
+        this.published.set(numVals);
+    }
+
+    /**
+     * private method for returning which chunk an index is stored in.
+     * Adding FIRST_CHUNK to the index makes chunk k cover [FIRST_CHUNK << k, FIRST_CHUNK << (k+1)),
+     * so the chunk is the position of the highest set bit, minus FIRST_CHUNK_BITS.
+     * @param index the index of an element.
+     * @return the number of the chunk holding that element.
+     */
+    private static int chunkOf(int index) {
+        return (31 - Integer.numberOfLeadingZeros(index + FIRST_CHUNK)) - FIRST_CHUNK_BITS;
+    }
+
+    /**
+     * private method for returning the position of an index within its chunk.
+     * @param index the index of an element.
+     * @param chunk the number of the chunk holding that element.
+     * @return the position within the chunk.
+     */
+    private static int positionOf(int index, int chunk) {
+        return (index + FIRST_CHUNK) - (FIRST_CHUNK << chunk);
+    }
+
+    /**
+     * private method for returning a chunk, creating it if no producer has yet.
+     * If two producers create it at the same time, only one of the new chunks is kept.
+     * @param k the number of the chunk.
+     * @return the chunk.
+     */
+    private Object[] chunk(int k) {
+        Object[] chunk = this.chunks.get(k);
+        if (chunk == null) {
+            this.chunks.compareAndSet(k, null, new Object[FIRST_CHUNK << k]);
+            chunk = this.chunks.get(k);
+        }
+        return chunk;
+    }
+
+    /**
+     * private method to move the published size forward over every slot that has been written.
+     * Any thread can do this, so the published size never waits on a particular producer.
+     */
+    private void publish() {
+        int p = this.published.get();
+        while (p < this.tail.get()) {
+            int k = chunkOf(p);
+            Object[] chunk = this.chunks.get(k);
+            if (chunk == null || SLOT.getVolatile(chunk, positionOf(p, k)) == null) {
+                return; // the producer that claimed slot p hasn't written it yet, and will publish it when it does
+            }
+            if (this.published.compareAndSet(p, p + 1)) {
+                p += 1;
+            } else {
+                p = this.published.get();
+            }
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set the element at index size, which is the same as appending it.
+     * Elements that have been published can't be changed, so any other index throws an UnsupportedOperationException.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set, which has to be size.
+     * @param val the value being appended.
+     * @return null, because there was no previous value.
+     */
+    public T set(int index, T val) {
+        int numVals = this.size();
+        if (index < 0 || index > numVals) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index != numVals) {
+            throw new UnsupportedOperationException("Elements of an AppendOnlyDynamicArray can't be changed");
+        }
+        this.append(val);
+        return null;
+    }
+
+    /**
+     * Method to access a published element. This never blocks.
+     * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.published.get()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        int k = chunkOf(index);
+        // reading published above makes the write of every slot below it visible, so a plain read is enough
+        return (T) this.chunks.get(k)[positionOf(index, k)];
+    }
+
+    /**
+     * Method for returning the number of published elements, which only grows.
+     * @return the number of elements that are written and can be read.
+     */
+    public int size() {
+        return this.published.get();
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method that always throws an UnsupportedOperationException, because elements can only be appended.
+     * @param index The index where the new element would be inserted.
+     * @param val the value that would be stored.
+     */
+    public void add(int index, T val) {
+        throw new UnsupportedOperationException("An AppendOnlyDynamicArray can only be appended to");
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the AppendOnlyDynamicArray.
+     * This is safe to call from any number of threads at once. Elements appended by different threads
+     * can end up in either order, but each thread's own elements keep the order they were appended in.
+     * If the value is null it will throw an IllegalArgumentException, and if the array is full it will throw an IllegalStateException.
+     * @param val the value being appended.
+     * @return the index the value was stored at.
+     */
+    public int append(T val) {
+        if (val == null) {
+            throw new IllegalArgumentException("An AppendOnlyDynamicArray cannot store null");
+        }
+        int index = this.tail.getAndIncrement();
+        if (index < 0 || index >= MAX_SIZE) {
+            throw new IllegalStateException("The AppendOnlyDynamicArray is full");
+        }
+        int k = chunkOf(index);
+        SLOT.setVolatile(this.chunk(k), positionOf(index, k), val);
+        this.publish();
+        return index;
+    }
+
+    /**
+     * Method that always throws an UnsupportedOperationException, because elements can only be appended.
+     * @param index the index of the element that would be removed
+     * @return nothing, since it always throws.
+     */
+    public T remove(int index) {
+        throw new UnsupportedOperationException("An AppendOnlyDynamicArray can only be appended to");
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of the elements published so far,
+     * where the result is returned as a new AppendOnlyDynamicArray object.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new AppendOnlyDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public AppendOnlyDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size(), newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into the elements published so far at
+     * a specified index. The result is returned as a new AppendOnlyDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted.
+     * @return a new AppendOnlyDynamicArray which is the current one with the new elements inserted.
+     */
+    public AppendOnlyDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        int numVals = this.size();
+        if (index < 0 || index > numVals) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        Object[] items = new Object[numVals + insertedVals];
+        this.copyInto(0, items, 0, index);
+        newArray.copyInto(0, items, index, insertedVals);
+        this.copyInto(index, items, index + insertedVals, numVals - index);
+        for (int i = index; i < index + insertedVals; i++) {
+            if (items[i] == null) {
+                throw new IllegalArgumentException("An AppendOnlyDynamicArray cannot store null");
+            }
+        }
+        return new AppendOnlyDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * Method for returning the published elements from a specified index and after as a new AppendOnlyDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the result.
+     * @return A new AppendOnlyDynamicArray of all the elements after and including the specified index.
+     */
+    public AppendOnlyDynamicArray<T> splitSuffix(int index) {
+        int numVals = this.size();
+        if (index < 0 || index > numVals) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, numVals);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new AppendOnlyDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out.
+     * @return The new AppendOnlyDynamicArray made up of the separated out elements.
+     */
+    public AppendOnlyDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current AppendOnlyDynamicArray is not modified, and the result is returned as a new AppendOnlyDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new AppendOnlyDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public AppendOnlyDynamicArray<T> delete(int startIndex, int endIndex) {
+        int numVals = this.size();
+        checkRange(startIndex, endIndex, numVals);
+        Object[] items = new Object[numVals - (endIndex - startIndex)];
+        this.copyInto(0, items, 0, startIndex);
+        this.copyInto(endIndex, items, startIndex, numVals - endIndex);
+        return new AppendOnlyDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * Method for taking an extract starting at a given index and ending just before an ending index.
+     * The result is returned as a new AppendOnlyDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new AppendOnlyDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public AppendOnlyDynamicArray<T> extract(int startIndex, int endIndex) {
+        checkRange(startIndex, endIndex, this.size());
+        Object[] items = new Object[endIndex - startIndex];
+        this.copyInto(startIndex, items, 0, items.length);
+        return new AppendOnlyDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * private method to check that startIndex and endIndex describe a valid range.
+     * @param startIndex the first index of the range.
+     * @param endIndex the index just after the last one in the range.
+     * @param numVals the number of published elements.
+     */
+    private static void checkRange(int startIndex, int endIndex, int numVals) {
+        if (startIndex < 0 || startIndex > numVals) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > numVals) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method to copy a range of published elements into an array, with one block copy for each chunk the range covers.
+     * If the range is outside of the published elements or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.published.get() - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        while (len > 0) {
+            int k = chunkOf(srcPos);
+            int position = positionOf(srcPos, k);
+            int count = Math.min(len, (FIRST_CHUNK << k) - position);
+            System.arraycopy(this.chunks.get(k), position, dest, destPos, count);
+            srcPos += count;
+            destPos += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Method to convert the published elements into a String representation.
+     * @return a String representation of the AppendOnlyDynamicArray object
+     */
+    public String toString() {
+        int numVals = this.size();
+        Object[] items = new Object[numVals];
+        this.copyInto(0, items, 0, numVals);
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < numVals; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(items[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,195 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of AppendOnlyDynamicArray, on one thread and with many producers at once.
+ */
+public class AppendOnlyDynamicArrayTests {
+
+    private AppendOnlyDynamicArray<Character> a1;
+    private AppendOnlyDynamicArray<Character> a2;
+
+    /**
+     * Initializes AppendOnlyDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into an AppendOnlyDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public AppendOnlyDynamicArray<Character> stringToArray(String s) {
+        AppendOnlyDynamicArray<Character> result = new AppendOnlyDynamicArray<Character>();
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests appending across several chunk boundaries and reading the elements back.
+     */
+    @Test
+    public void testAppendAcrossChunks() {
+        AppendOnlyDynamicArray<Integer> nums = new AppendOnlyDynamicArray<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, nums.append(i));
+        }
+        assertEquals(1000, nums.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), nums.get(i));
+        }
+        Object[] dest = new Object[100];
+        nums.copyInto(10, dest, 0, 100); // crosses from the first chunk of 16 into the next two
+        assertEquals(10, dest[0]);
+        assertEquals(109, dest[99]);
+    }
+
+    /**
+     * Tests the functional methods, and that elements can't be changed or removed.
+     */
+    @Test
+    public void testFunctionalAndUnsupported() {
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.delete(1, 4), "aef");
+        compareToString(a1.extract(2, 5), "cde");
+        compareToString(a1.splitPrefix(3), "abc");
+        compareToString(a1.splitSuffix(3), "def");
+        assertEquals("[w, x, y, z]", a2.toString());
+        try {
+            a1.set(0, 'q');
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            a1.remove(0);
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            a1.append((Character) null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that every element appended by several producers is kept,
+     * and that a reader scanning behind them only ever sees written elements.
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        AppendOnlyDynamicArray<Integer> log = new AppendOnlyDynamicArray<Integer>();
+        int producers = 4;
+        int perProducer = 50000;
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread reader = new Thread(() -> {
+            int seen = 0;
+            while (!done.get() || seen < log.size()) {
+                int numVals = log.size();
+                for (; seen < numVals; seen++) {
+                    if (log.get(seen) == null) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    log.append(id * perProducer + i);
+                }
+            }));
+        }
+        reader.start();
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(producers * perProducer, log.size());
+        boolean[] found = new boolean[producers * perProducer];
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < log.size(); i++) {
+            int val = log.get(i);
+            found[val] = true;
+            assertTrue("each producer's elements stay in order", val > last[val / perProducer]);
+            last[val / perProducer] = val;
+        }
+        for (boolean f : found) {
+            assertTrue(f);
+        }
+    }
+
+    /**
+     * Tests that no element is left unpublished when many producers finish at the same moment.
+     * Each round starts every producer together and checks the size right after they are joined,
+     * since a slot written just as another producer stops publishing would be lost from size.
+     */
+    @Test
+    public void testSizeAfterJoin() throws InterruptedException {
+        int threads = 8;
+        int perThread = 2000;
+        for (int round = 0; round < 50; round++) {
+            AppendOnlyDynamicArray<Integer> log = new AppendOnlyDynamicArray<Integer>();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<Thread>();
+            for (int p = 0; p < threads; p++) {
+                Thread t = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        log.append(i);
+                    }
+                });
+                producers.add(t);
+                t.start();
+            }
+            start.countDown();
+            for (Thread t : producers) {
+                t.join();
+            }
+            assertEquals("round " + round, threads * perThread, log.size());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of Object[] arrays for the internal arrays of pooled DynamicArrays, so that short lived results
+ * of the functional methods can reuse arrays instead of leaving them all for the garbage collector.
+ * Arrays are sorted into size classes by powers of two, from 16 up to 2^20 elements, and an array taken from
+ * the pool is the smallest size class that fits. Larger arrays aren't pooled, since they are rare and
+ * holding on to them would waste a lot of memory.
+ * Every thread has its own free lists, so taking and returning arrays never waits on another thread.
+ * An array returned on a different thread than it was taken on simply joins that thread's free lists.
+ * Each thread keeps at most MAX_PER_CLASS free arrays of each size, so the pool can't grow without bound.
+ * The hit and miss counters are shared by every thread, and use LongAdders so they stay contention-free too.
+ */
+public class ArrayPool {
+    /**
+     * the smallest size class, as a power of two
+     */
+    private static final int MIN_CLASS = 4;
+
+    /**
+     * the largest size class, as a power of two
+     */
+    private static final int MAX_CLASS = 20;
+
+    /**
+     * the most free arrays each thread keeps for each size class
+     */
+    public static final int MAX_PER_CLASS = 8;
+
+    /**
+     * the free lists of the current thread
+     */
+    private static final ThreadLocal<FreeLists> FREE = ThreadLocal.withInitial(FreeLists::new);
+
+    /**
+     * the number of arrays handed out from a free list
+     */
+    private static final LongAdder hits = new LongAdder();
+
+    /**
+     * the number of arrays that had to be allocated because there were none free of the right size
+     */
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * the number of arrays returned and kept for reuse
+     */
+    private static final LongAdder returned = new LongAdder();
+
+    /**
+     * the number of arrays returned but dropped, because their free list was full or they aren't a pooled size
+     */
+    private static final LongAdder discarded = new LongAdder();
+
+    /**
+     * private constructor, since the pool is only used through its static methods.
+     */
+    private ArrayPool() {
+    }
+
+    /**
+     * Method for returning an array with room for at least minLength elements, every one of them null.
+     * The array is the smallest size class that fits, so it may be longer than asked for.
+     * @param minLength the smallest length the array may have.
+     * @return a free array from the current thread's pool, or a new one.
+     */
+    public static Object[] take(int minLength) {
+        int sizeClass = sizeClassOf(minLength);
+        if (sizeClass > MAX_CLASS) {
+            misses.increment();
+            return new Object[minLength];
+        }
+        Object[] arr = FREE.get().pop(sizeClass);
+        if (arr != null) {
+            hits.increment();
+            return arr;
+        }
+        misses.increment();
+        return new Object[1 << sizeClass];
+    }
+
+    /**
+     * Method to give an array back to the current thread's pool. The elements are cleared first, so the pool
+     * doesn't keep them from being garbage collected. The caller must not use the array again afterwards.
+     * Arrays that aren't one of the size classes, or whose free list is already full, are dropped.
+     * @param arr the array being returned.
+     */
+    public static void give(Object[] arr) {
+        int length = arr.length;
+        if (Integer.bitCount(length) != 1 || length < (1 << MIN_CLASS) || length > (1 << MAX_CLASS)) {
+            discarded.increment();
+            return;
+        }
+        Arrays.fill(arr, null);
+        if (FREE.get().push(Integer.numberOfTrailingZeros(length), arr)) {
+            returned.increment();
+        } else {
+            discarded.increment();
+        }
+    }
+
+    /**
+     * private method for returning the size class that holds a given number of elements.
+     * @param minLength the number of elements.
+     * @return the smallest power of two, at least MIN_CLASS, whose length is at least minLength.
+     */
+    private static int sizeClassOf(int minLength) {
+        if (minLength <= (1 << MIN_CLASS)) {
+            return MIN_CLASS;
+        }
+        return 32 - Integer.numberOfLeadingZeros(minLength - 1);
+    }
+
+    // STATISTICS //
+
+    /**
+     * Method for returning the number of arrays handed out from a free list instead of being allocated.
+     * @return the number of hits.
+     */
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Method for returning the number of arrays that had to be allocated because none of the right size were free.
+     * @return the number of misses.
+     */
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Method for returning the number of arrays given back and kept for reuse.
+     * @return the number of arrays returned.
+     */
+    public static long getReturned() {
+        return returned.sum();
+    }
+
+    /**
+     * Method for returning the number of arrays given back but dropped.
+     * @return the number of arrays discarded.
+     */
+    public static long getDiscarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Method for returning the fraction of take calls that were served from a free list.
+     * @return the hit rate from 0 to 1, or 0 if nothing has been taken yet.
+     */
+    public static double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Method to set the statistics back to zero. The free arrays are kept.
+     */
+    public static void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        returned.reset();
+        discarded.reset();
+    }
+
+    /**
+     * Method to convert the statistics into a String representation.
+     * @return a String listing each counter.
+     */
+    public static String statistics() {
+        return "hits=" + getHits() + ", misses=" + getMisses() + ", returned=" + getReturned()
+                + ", discarded=" + getDiscarded();
+    }
+
+    /**
+     * The free arrays of one thread, as a small stack for each size class.
+     */
+    private static final class FreeLists {
+        /**
+         * the free arrays of each size class
+         */
+        private final Object[][][] stacks = new Object[MAX_CLASS + 1][][];
+
+        /**
+         * the number of free arrays of each size class
+         */
+        private final int[] counts = new int[MAX_CLASS + 1];
+
+        /**
+         * private method for taking a free array of a size class.
+         * @param sizeClass the size class.
+         * @return a free array, or null if there aren't any.
+         */
+        private Object[] pop(int sizeClass) {
+            if (this.counts[sizeClass] == 0) {
+                return null;
+            }
+            this.counts[sizeClass] -= 1;
+            Object[] arr = this.stacks[sizeClass][this.counts[sizeClass]];
+            this.stacks[sizeClass][this.counts[sizeClass]] = null;
+            return arr;
+        }
+
+        /**
+         * private method for adding a free array to its size class.
+         * @param sizeClass the size class.
+         * @param arr the free array.
+         * @return true if it was kept, false if the size class was already full.
+         */
+        private boolean push(int sizeClass, Object[] arr) {
+            if (this.stacks[sizeClass] == null) {
+                this.stacks[sizeClass] = new Object[MAX_PER_CLASS][];
+            }
+            if (this.counts[sizeClass] == MAX_PER_CLASS) {
+                return false;
+            }
+            this.stacks[sizeClass][this.counts[sizeClass]] = arr;
+            this.counts[sizeClass] += 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,466 @@
+import java.util.Arrays;
+
+/**
+ * A dynamic array indexed by long instead of int, so it can hold more than the 2^31 - 1 elements that fit in one Java array.
+ * The elements are stored in fixed-size segments (2^20 elements each by default) listed in a directory.
+ * Growing only adds a segment, so existing elements are never copied and there is never one huge allocation,
+ * which the garbage collector handles far better. An index is split into a segment and a position with a shift and a mask.
+ * This has the same methods as the DynamicArrayADT, but with long indices, so it doesn't implement the interface.
+ * extract, splitPrefix, splitSuffix, delete and insert share whole segments with the array they come from when the
+ * segments line up, instead of copying them. A shared segment is copied the first time either array writes to it.
+ * @param <T> the type of the BigDynamicArray object must be specified when a new instance is declared.
+ */
+public class BigDynamicArray<T> {
+    /**
+     * the default log2 of the segment length, so each segment holds about a million elements
+     */
+    private static final int DEFAULT_SEGMENT_BITS = 20;
+
+    /**
+     * the log2 of the number of elements in each segment
+     */
+    private final int segmentBits;
+
+    /**
+     * the number of elements in each segment
+     */
+    private final int segmentSize;
+
+    /**
+     * the mask that takes the position within a segment out of an index
+     */
+    private final long segmentMask;
+
+    /**
+     * the directory of segments, only the first segmentCount are in use
+     */
+    private Object[][] segments;
+
+    /**
+     * whether this BigDynamicArray is the only one using each segment. A segment that isn't owned is copied before it is written to.
+     */
+    private boolean[] owned;
+
+    /**
+     * the number of segments allocated
+     */
+    private int segmentCount;
+
+    /**
+     * the number of elements stored
+     */
+    private long size;
+
+    /**
+     * Constructor for an empty BigDynamicArray with segments of 2^20 elements.
+     */
+    public BigDynamicArray() {
+        this(DEFAULT_SEGMENT_BITS);
+    }
+
+    /**
+     * Constructor for an empty BigDynamicArray with segments of 2^segmentBits elements.
+     * If segmentBits is outside of [1, 30], it will throw an IllegalArgumentException.
+     * @param segmentBits the log2 of the number of elements in each segment.
+     */
+    public BigDynamicArray(int segmentBits) {
+        if (segmentBits < 1 || segmentBits > 30) {
+            throw new IllegalArgumentException("The segment bits must be between 1 and 30");
+        }
+        this.segmentBits = segmentBits;
+        this.segmentSize = 1 << segmentBits;
+        this.segmentMask = this.segmentSize - 1;
+        this.segments = new Object[4][];
+        this.owned = new boolean[4];
+        this.segmentCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Constructor for a BigDynamicArray holding the same elements as a DynamicArrayADT, copied one segment at a time.
+     * @param arr the DynamicArrayADT whose elements are copied in.
+     */
+    public BigDynamicArray(DynamicArrayADT<T> arr) {
+        this();
+        int numVals = arr.size();
+        this.ensureCapacity(numVals);
+        for (int start = 0; start < numVals; start += this.segmentSize) {
+            int len = Math.min(this.segmentSize, numVals - start);
+            arr.copyInto(start, this.segments[this.segmentOf(start)], 0, len);
+        }
+        this.size = numVals;
+    }
+
+    // SEGMENTS //
+
+    /**
+     * private method for returning which segment an index is stored in.
+     * @param index the index of an element.
+     * @return the number of its segment.
+     */
+    private int segmentOf(long index) {
+        return (int) (index >>> this.segmentBits);
+    }
+
+    /**
+     * private method for returning the position of an index within its segment.
+     * @param index the index of an element.
+     * @return the position within its segment.
+     */
+    private int positionOf(long index) {
+        return (int) (index & this.segmentMask);
+    }
+
+    /**
+     * Method for returning the number of elements that can be stored before another segment has to be added.
+     * @return the capacity of the allocated segments.
+     */
+    public long capacity() {
+        return (long) this.segmentCount << this.segmentBits;
+    }
+
+    /**
+     * private method to add empty segments until there is room for minCapacity elements.
+     * @param minCapacity the number of elements there needs to be room for.
+     */
+    private void ensureCapacity(long minCapacity) {
+        while (this.capacity() < minCapacity) {
+            this.setSegment(this.segmentCount, new Object[this.segmentSize], true);
+        }
+    }
+
+    /**
+     * private method to put a segment into the directory, growing the directory if it is full.
+     * Growing the directory only copies the references to the segments, not the elements.
+     * @param s the number of the segment.
+     * @param segment the segment.
+     * @param isOwned whether this BigDynamicArray is the only one using the segment.
+     */
+    private void setSegment(int s, Object[] segment, boolean isOwned) {
+        if (s >= this.segments.length) {
+            if (this.segments.length == Integer.MAX_VALUE) {
+                throw new IllegalStateException("The BigDynamicArray is full");
+            }
+            int newLength = (int) Math.min(Integer.MAX_VALUE, Math.max(s + 1L, this.segments.length * 2L));
+            this.segments = Arrays.copyOf(this.segments, newLength);
+            this.owned = Arrays.copyOf(this.owned, newLength);
+        }
+        this.segments[s] = segment;
+        this.owned[s] = isOwned;
+        this.segmentCount = Math.max(this.segmentCount, s + 1);
+    }
+
+    /**
+     * private method for returning a segment that can be written to, copying it first if it is shared.
+     * @param s the number of the segment.
+     * @return the segment.
+     */
+    private Object[] writable(int s) {
+        if (!this.owned[s]) {
+            this.segments[s] = this.segments[s].clone();
+            this.owned[s] = true;
+        }
+        return this.segments[s];
+    }
+
+    /**
+     * private method to free segments at the end that aren't needed, keeping one empty one so that
+     * alternating appends and removes at a segment boundary don't allocate each time.
+     */
+    private void releaseSegments() {
+        long needed = (this.size + this.segmentSize - 1) >>> this.segmentBits;
+        while (this.segmentCount > needed + 1) {
+            this.segmentCount -= 1;
+            this.segments[this.segmentCount] = null;
+        }
+    }
+
+    /**
+     * private method to move len elements from srcIndex to destIndex within this BigDynamicArray,
+     * with one System.arraycopy for each piece that doesn't cross a segment boundary. The ranges may overlap.
+     * @param srcIndex the index of the first element being moved.
+     * @param destIndex the index it moves to.
+     * @param len the number of elements being moved.
+     */
+    private void moveRange(long srcIndex, long destIndex, long len) {
+        if (destIndex <= srcIndex) {
+            while (len > 0) { // moving left, so copy from the front
+                int count = (int) Math.min(len, Math.min(this.segmentSize - this.positionOf(srcIndex),
+                                                         this.segmentSize - this.positionOf(destIndex)));
+                System.arraycopy(this.segments[this.segmentOf(srcIndex)], this.positionOf(srcIndex),
+                                 this.writable(this.segmentOf(destIndex)), this.positionOf(destIndex), count);
+                srcIndex += count;
+                destIndex += count;
+                len -= count;
+            }
+        } else {
+            long srcEnd = srcIndex + len;
+            long destEnd = destIndex + len;
+            while (len > 0) { // moving right, so copy from the back
+                int count = (int) Math.min(len, Math.min(this.positionOf(srcEnd - 1) + 1, this.positionOf(destEnd - 1) + 1));
+                srcEnd -= count;
+                destEnd -= count;
+                System.arraycopy(this.segments[this.segmentOf(srcEnd)], this.positionOf(srcEnd),
+                                 this.writable(this.segmentOf(destEnd)), this.positionOf(destEnd), count);
+                len -= count;
+            }
+        }
+    }
+
+    /**
+     * private method to append the elements from startIndex up until just before endIndex of another BigDynamicArray.
+     * If both arrays use the same segment size and the copy starts at the beginning of a segment in both of them,
+     * the segments are shared instead of copied. Otherwise they are copied one piece at a time.
+     * @param src the BigDynamicArray the elements come from, which may be this one.
+     * @param startIndex the first index of src being appended.
+     * @param endIndex the index just after the last one being appended.
+     */
+    private void appendRange(BigDynamicArray<T> src, long startIndex, long endIndex) {
+        if (startIndex >= endIndex) {
+            return;
+        }
+        if (src.segmentBits == this.segmentBits && this.positionOf(this.size) == 0 && src.positionOf(startIndex) == 0) {
+            int at = this.segmentOf(this.size);
+            for (int s = src.segmentOf(startIndex); s <= src.segmentOf(endIndex - 1); s++) {
+                src.owned[s] = false;
+                this.setSegment(at, src.segments[s], false);
+                at += 1;
+            }
+            this.size += endIndex - startIndex;
+            return;
+        }
+        this.ensureCapacity(this.size + (endIndex - startIndex));
+        while (startIndex < endIndex) {
+            int count = (int) Math.min(endIndex - startIndex, Math.min(src.segmentSize - src.positionOf(startIndex),
+                                                                      this.segmentSize - this.positionOf(this.size)));
+            System.arraycopy(src.segments[src.segmentOf(startIndex)], src.positionOf(startIndex),
+                             this.writable(this.segmentOf(this.size)), this.positionOf(this.size), count);
+            startIndex += count;
+            this.size += count;
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index. Setting the element at index size is the same as appending it.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, or null if it was appended.
+     */
+    public T set(long index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) {
+            this.append(val);
+            return null;
+        }
+        Object[] segment = this.writable(this.segmentOf(index));
+        T previousVal = this.cast(segment[this.positionOf(index)]);
+        segment[this.positionOf(index)] = val;
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.cast(this.segments[this.segmentOf(index)][this.positionOf(index)]);
+    }
+
+    /**
+     * Method for returning the number of elements stored in the BigDynamicArray.
+     * @return the number of elements currently stored, which can be more than Integer.MAX_VALUE.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * private method to cast an element read out of a segment back to its type.
+     * @param item the element.
+     * @return the same element as a T.
+     */
+    @SuppressWarnings("unchecked")
+    private T cast(Object item) {
+        return (T) item;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element at a specified index, shifting the elements after it one to the right.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(long index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        this.ensureCapacity(this.size + 1);
+        this.moveRange(index, index + 1, this.size - index);
+        this.writable(this.segmentOf(index))[this.positionOf(index)] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the BigDynamicArray.
+     * A new segment is added when the last one is full, without copying any elements.
+     * @param val the value being appended.
+     */
+    public void append(T val) {
+        this.ensureCapacity(this.size + 1);
+        this.writable(this.segmentOf(this.size))[this.positionOf(this.size)] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element, shifting the elements after it one to the left.
+     * Segments at the end that are no longer needed are freed.
+     * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(long index) {
+        T removedElem = this.get(index);
+        this.moveRange(index + 1, index, this.size - index - 1);
+        this.size -= 1;
+        this.writable(this.segmentOf(this.size))[this.positionOf(this.size)] = null; // so the element can be garbage collected
+        this.releaseSegments();
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another BigDynamicArray onto the end of this one,
+     * where the result is returned as a new BigDynamicArray object.
+     * @param newArray The BigDynamicArray being concatenated onto the end of this current object
+     * @return a new BigDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public BigDynamicArray<T> append(BigDynamicArray<T> newArray) {
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another BigDynamicArray at a specified index.
+     * The result is returned as a new BigDynamicArray, which shares the segments before index with this one.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the BigDynamicArray being inserted.
+     * @return a new BigDynamicArray which is the current one with the new elements inserted.
+     */
+    public BigDynamicArray<T> insert(long index, BigDynamicArray<T> newArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        long insertedVals = newArray.size;
+        BigDynamicArray<T> resultArr = this.extract(0, index);
+        resultArr.appendRange(newArray, 0, insertedVals);
+        resultArr.appendRange(this, index, this.size);
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new BigDynamicArray.
+     * If the index is at the start of a segment, the segments are shared instead of copied.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the result.
+     * @return A new BigDynamicArray of all the elements after and including the specified index.
+     */
+    public BigDynamicArray<T> splitSuffix(long index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new BigDynamicArray, which shares its segments with this one.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out.
+     * @return The new BigDynamicArray made up of the separated out elements.
+     */
+    public BigDynamicArray<T> splitPrefix(long index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current BigDynamicArray is not modified, and the result is returned as a new BigDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new BigDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public BigDynamicArray<T> delete(long startIndex, long endIndex) {
+        this.checkRange(startIndex, endIndex);
+        BigDynamicArray<T> resultArr = this.extract(0, startIndex);
+        resultArr.appendRange(this, endIndex, this.size);
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract starting at a given index and ending just before an ending index.
+     * The result is returned as a new BigDynamicArray and the current one remains unaltered.
+     * If startIndex is at the start of a segment, the segments are shared instead of copied.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new BigDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public BigDynamicArray<T> extract(long startIndex, long endIndex) {
+        this.checkRange(startIndex, endIndex);
+        BigDynamicArray<T> extractArr = new BigDynamicArray<T>(this.segmentBits);
+        extractArr.appendRange(this, startIndex, endIndex);
+        return extractArr;
+    }
+
+    /**
+     * private method to check that startIndex and endIndex describe a valid range.
+     * @param startIndex the first index of the range.
+     * @param endIndex the index just after the last one in the range.
+     */
+    private void checkRange(long startIndex, long endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method to convert the BigDynamicArray into a String representation of the object.
+     * @return a String representation of the BigDynamicArray object
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (long i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(this.segments[this.segmentOf(i)][this.positionOf(i)]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,136 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of BigDynamicArray. Most tests use segments of only 4 elements,
+ * so that every operation crosses segment boundaries.
+ */
+public class BigDynamicArrayTests {
+
+    private BigDynamicArray<Character> a1;
+    private BigDynamicArray<Character> a2;
+
+    /**
+     * Initializes BigDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdefghij");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into a BigDynamicArray with segments of 4 elements
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public BigDynamicArray<Character> stringToArray(String s) {
+        BigDynamicArray<Character> result = new BigDynamicArray<Character>(2);
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a BigDynamicArray against those in a string.
+     */
+    public void compareToString(BigDynamicArray<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests the functional methods, with ranges that do and don't line up with the segments.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        compareToString(a1.extract(4, 9), "efghi");  // starts on a segment, so it is shared
+        compareToString(a1.extract(3, 9), "defghi"); // doesn't, so it is copied
+        compareToString(a1.splitPrefix(6), "abcdef");
+        compareToString(a1.splitSuffix(8), "ij");
+        compareToString(a1.delete(2, 7), "abhij");
+        compareToString(a1.insert(4, a2), "abcdwxyzefghij");
+        compareToString(a1.insert(5, a2), "abcdewxyzfghij");
+        compareToString(a2.append(a1), "wxyzabcdefghij");
+        assertEquals("[w, x, y, z]", a2.toString());
+    }
+
+    /**
+     * Tests that arrays sharing segments don't see each other's writes.
+     */
+    @Test
+    public void testSharedSegmentsAreCopiedOnWrite() {
+        BigDynamicArray<Character> prefix = a1.splitPrefix(6);
+        BigDynamicArray<Character> suffix = a1.splitSuffix(4);
+        prefix.set(0, 'A');
+        prefix.append('Z');   // the last segment of prefix is shared with a1 past its end
+        suffix.set(1, 'F');
+        a1.remove(4);
+        compareToString(prefix, "AbcdefZ");
+        compareToString(suffix, "eFghij");
+        compareToString(a1, "abcdfghij");
+    }
+
+    /**
+     * Tests random add, remove, set and append against an ArrayList, including shrinking back down to nothing.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(5);
+        BigDynamicArray<Integer> big = new BigDynamicArray<Integer>(3);
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int step = 0; step < 4000; step++) {
+            int choice = random.nextInt(10);
+            if (choice < 3 && !expected.isEmpty()) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.remove(i), big.remove(i));
+            } else if (choice < 5) {
+                int i = random.nextInt(expected.size() + 1);
+                expected.add(i, step);
+                big.add(i, step);
+            } else if (choice < 6 && !expected.isEmpty()) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.set(i, -step), big.set(i, -step));
+            } else {
+                expected.add(step);
+                big.append(step);
+            }
+        }
+        assertEquals(expected.toString(), big.toString());
+        while (big.size() > 0) {
+            big.remove(big.size() - 1);
+        }
+        assertTrue(big.capacity() <= 8); // every segment but one spare was freed
+    }
+
+    /**
+     * Tests building a BigDynamicArray from a DynamicArray, and that indices past Integer.MAX_VALUE
+     * are rejected by the bounds check instead of wrapping around.
+     */
+    @Test
+    public void testFromDynamicArrayAndLongIndices() {
+        DynamicArray<Integer> small = new DynamicArray<Integer>(0);
+        for (int i = 0; i < 3000000; i++) { // spans three of the default segments
+            small.append(i);
+        }
+        BigDynamicArray<Integer> big = new BigDynamicArray<Integer>(small);
+        assertEquals(3000000, big.size());
+        assertEquals(Integer.valueOf(2999999), big.get(2999999L));
+        assertEquals(Integer.valueOf(1048576), big.get(1L << 20));
+        try {
+            big.get((1L << 32) + 5);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,173 @@
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of CharDynamicArray, the unboxed version of DynamicArray&lt;Character&gt;.
+ * IntDynamicArray and LongDynamicArray share the same code, so they are spot checked at the end.
+ */
+public class CharDynamicArrayTests {
+
+    private CharDynamicArray a1;
+    private CharDynamicArray a2;
+    private CharDynamicArray empty;
+
+    /**
+     * Initializes CharDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = CharDynamicArray.fromString("abcdef");
+        a2 = CharDynamicArray.fromString("wxyz");
+        empty = CharDynamicArray.fromString("");
+    }
+
+    /**
+     * Compares the size and each element in a CharDynamicArray against those in a string.
+     */
+    public void compareToString(CharDynamicArray arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests that set, add, append and remove work the same way as in DynamicArray.
+     */
+    @Test
+    public void testMutableMethods() {
+        assertEquals('b', a1.set(1, 'B'));
+        a1.set(a1.size(), 'g');
+        a1.add(0, 'm');
+        a1.append('h');
+        assertEquals('d', a1.remove(4));
+        compareToString(a1, "maBcefgh");
+
+        empty.add(0, 'q');
+        compareToString(empty, "q");
+    }
+
+    /**
+     * Tests the functional methods against the same cases as DynamicArrayTests,
+     * and that they don't modify the original arrays.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.append(a1), "abcdefabcdef");
+        compareToString(empty.append(a2), "wxyz");
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.extract(1, 3), "bc");
+        compareToString(a1.extract(0, 0), "");
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(2), "cdef");
+        compareToString(a1.delete(1, 4), "aef");
+        compareToString(a1, "abcdef");
+        assertEquals("[a, b, c, d, e, f]", a1.toString());
+    }
+
+    /**
+     * Tests that converting to a DynamicArray and back keeps the same elements.
+     */
+    @Test
+    public void testConversions() {
+        DynamicArray<Character> boxed = a1.toDynamicArray();
+        assertEquals(a1.toString(), boxed.toString());
+        compareToString(CharDynamicArray.fromDynamicArray(boxed), "abcdef");
+    }
+
+    /**
+     * Tests that IntDynamicArray stores and converts values the same way.
+     */
+    @Test
+    public void testIntDynamicArray() {
+        IntDynamicArray ints = new IntDynamicArray(0);
+        for (int i = 0; i < 100; i++) {
+            ints.append(i);
+        }
+        ints.remove(0);
+        assertEquals(99, ints.size());
+        assertEquals(1, ints.get(0));
+        assertEquals(Integer.valueOf(99), ints.toDynamicArray().get(98));
+    }
+
+    /**
+     * Tests that LongDynamicArray keeps values that don't fit in an int through a conversion to DynamicArray and back.
+     */
+    @Test
+    public void testLongDynamicArrayConversions() {
+        LongDynamicArray longs = new LongDynamicArray(0);
+        longs.append(Long.MIN_VALUE);
+        longs.append(1L << 40);
+        longs.append(-7L);
+        longs.append(Long.MAX_VALUE);
+        DynamicArray<Long> boxed = longs.toDynamicArray();
+        assertEquals(longs.toString(), boxed.toString());
+        assertEquals(Long.valueOf(1L << 40), boxed.get(1));
+        LongDynamicArray back = LongDynamicArray.fromDynamicArray(boxed);
+        assertEquals(longs, back);
+        assertArrayEquals(new long[] {Long.MIN_VALUE, 1L << 40, -7L, Long.MAX_VALUE}, back.toArray());
+    }
+
+    /**
+     * Tests the functional methods of LongDynamicArray, and that they don't modify the original arrays.
+     */
+    @Test
+    public void testLongDynamicArrayFunctionalMethods() {
+        LongDynamicArray longs = new LongDynamicArray(0);
+        LongDynamicArray others = new LongDynamicArray(0);
+        for (int i = 0; i < 6; i++) {
+            longs.append((long) i << 33);
+        }
+        others.append(-1L);
+        others.append(-2L);
+        assertEquals("[0, 8589934592, -1, -2, 17179869184, 25769803776, 34359738368, 42949672960]",
+                longs.insert(2, others).toString());
+        assertEquals("[0, 8589934592, 17179869184, 25769803776, 34359738368, 42949672960, -1, -2]",
+                longs.append(others).toString());
+        assertEquals("[8589934592, 17179869184]", longs.extract(1, 3).toString());
+        assertEquals("[0, 8589934592]", longs.splitPrefix(2).toString());
+        assertEquals("[17179869184, 25769803776, 34359738368, 42949672960]", longs.splitSuffix(2).toString());
+        assertEquals("[0, 34359738368, 42949672960]", longs.delete(1, 4).toString());
+        assertEquals(6, longs.size());
+        assertEquals(3L << 33, longs.get(3));
+    }
+
+    /**
+     * Tests indexOf, count, fill, equals and hashCode, with hashCode checked against Arrays.hashCode
+     * for every length up to a few past the four elements folded in each step.
+     */
+    @Test
+    public void testScansAndBulkOperations() {
+        CharDynamicArray text = CharDynamicArray.fromString("abracadabra");
+        assertEquals(4, text.indexOf('c'));
+        assertEquals(-1, text.indexOf('z'));
+        assertEquals(5, text.count('a'));
+        text.fill(1, 4, '-');
+        compareToString(text, "a---cadabra");
+        assertEquals(CharDynamicArray.fromString("a---cadabra"), text);
+        assertNotEquals(CharDynamicArray.fromString("a---cadabr"), text);
+        assertNotEquals(a1, a1.toDynamicArray());
+
+        LongDynamicArray longs = new LongDynamicArray(0);
+        for (int n = 0; n < 12; n++) {
+            CharDynamicArray chars = CharDynamicArray.fromString("abcdefghijklm".substring(0, n));
+            assertEquals(Arrays.hashCode(chars.toArray()), chars.hashCode());
+            assertEquals(Arrays.hashCode(longs.toArray()), longs.hashCode());
+            longs.append(-1L << (n * 5));
+        }
+        assertEquals(new LongDynamicArray(longs), longs);
+    }
+
+    /**
+     * Tests that invalid ranges throw an IndexOutOfBoundsException
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractBounds() {
+        a1.extract(3, 1);
+    }
+}
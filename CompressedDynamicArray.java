@@ -0,0 +1,687 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Implementation of the DynamicArrayADT for highly repetitive data, which stores the elements compressed.
+ * It picks whichever of two encodings is smaller for the data it holds, and switches between them as the data changes:
+ * <ul>
+ * <li>run-length encoding stores each run of equal elements once, along with the index where the run ends.
+ * get is a binary search over the runs, O(log runs). This suits long runs, like padding or repeated characters.</li>
+ * <li>dictionary encoding stores each distinct value once, and each element as a code with only as many bits
+ * as the number of distinct values needs (1 bit for 2 values, 3 bits for 8, and so on), packed into a long[].
+ * get is O(1). This suits data drawn from a few values, like an enum, that doesn't come in runs.</li>
+ * </ul>
+ * append is amortized O(1) in either encoding, and set is O(1) with the dictionary encoding.
+ * Other changes (add, remove, and set with run-length encoding) decode and re-encode the array, which is O(n).
+ * Every time the size doubles, the sizes of both encodings are estimated and the smaller one is used.
+ * @param <T> the type of the CompressedDynamicArray object must be specified when a new instance is declared.
+ */
+public class CompressedDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the estimated size of a reference, assuming compressed references
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    /**
+     * the most distinct values the dictionary encoding can hold. Past this, only run-length encoding is used.
+     */
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    /**
+     * the size at which the encodings are first compared
+     */
+    private static final int FIRST_CHECK = 64;
+
+    /**
+     * the number of elements stored
+     */
+    private int size;
+
+    /**
+     * true if the elements are run-length encoded, false if they are dictionary encoded
+     */
+    private boolean runLength;
+
+    /**
+     * the number of runs of equal elements, which is kept up to date with either encoding
+     */
+    private int runCount;
+
+    /**
+     * the value of each run, only used with run-length encoding
+     */
+    private Object[] runValues;
+
+    /**
+     * the index just after the last element of each run, only used with run-length encoding
+     */
+    private int[] runEnds;
+
+    /**
+     * the distinct values, where a value's code is its index. Kept with either encoding so the
+     * dictionary encoding can be switched to, and null once there are too many distinct values for it.
+     */
+    private Object[] dictionary;
+
+    /**
+     * the number of values in the dictionary
+     */
+    private int dictionarySize;
+
+    /**
+     * the code of each distinct value, or null once there are too many distinct values
+     */
+    private HashMap<Object, Integer> codes;
+
+    /**
+     * the number of bits used for each code, only used with dictionary encoding
+     */
+    private int bitsPerCode;
+
+    /**
+     * the packed codes of the elements, only used with dictionary encoding
+     */
+    private long[] words;
+
+    /**
+     * the size at which the encodings are compared next
+     */
+    private int nextCheck;
+
+    /**
+     * Constructor for an empty CompressedDynamicArray.
+     */
+    public CompressedDynamicArray() {
+        this(new Object[0], 0);
+    }
+
+    /**
+     * Constructor for a CompressedDynamicArray holding the same elements as another DynamicArrayADT.
+     * @param arr the DynamicArrayADT whose elements are compressed into the new CompressedDynamicArray.
+     */
+    public CompressedDynamicArray(DynamicArrayADT<T> arr) {
+        this(copyOf(arr), arr.size());
+    }
+
+    /**
+     * private constructor for a CompressedDynamicArray holding the first numVals elements of an array.
+     * @param items the elements.
+     * @param numVals the number of elements.
+     */
+    private CompressedDynamicArray(Object[] items, int numVals) {
+        this.encode(items, numVals);
+    }
+
+    /**
+     * private method to copy the elements of a DynamicArrayADT into an array.
+     * @param arr the DynamicArrayADT being copied.
+     * @return an array of its elements.
+     */
+    private static Object[] copyOf(DynamicArrayADT<?> arr) {
+        Object[] items = new Object[arr.size()];
+        arr.copyInto(0, items, 0, items.length);
+        return items;
+    }
+
+    // ENCODING //
+
+    /**
+     * private method to replace the contents with the first numVals elements of an array, using whichever encoding is smaller.
+     * @param items the elements.
+     * @param numVals the number of elements.
+     */
+    private void encode(Object[] items, int numVals) {
+        this.size = 0;
+        this.runCount = 0;
+        this.runValues = new Object[4];
+        this.runEnds = new int[4];
+        this.dictionary = new Object[4];
+        this.dictionarySize = 0;
+        this.codes = new HashMap<Object, Integer>();
+        this.runLength = true;
+        for (int i = 0; i < numVals; i++) { // build the runs and the dictionary together
+            this.countRun(items[i]);
+            this.code(items[i]);
+            this.size += 1;
+        }
+        this.nextCheck = Math.max(FIRST_CHECK, numVals * 2);
+        if (this.dictionaryBytes() < this.runLengthBytes()) {
+            this.useDictionary(items);
+        }
+    }
+
+    /**
+     * private method to switch to dictionary encoding, packing the codes of the given elements.
+     * @param items the elements, the first size of which are packed.
+     */
+    private void useDictionary(Object[] items) {
+        this.runLength = false;
+        this.bitsPerCode = bitsFor(this.dictionarySize);
+        this.words = new long[wordsFor(Math.max(this.size, 16), this.bitsPerCode)];
+        for (int i = 0; i < this.size; i++) {
+            this.writeCode(i, this.codes.get(items[i]));
+        }
+        this.runValues = null; // the runs are only counted now, not stored
+        this.runEnds = null;
+    }
+
+    /**
+     * private method to compare the estimated size of both encodings and switch if the other one is smaller.
+     * This is called every time the size doubles, so the O(n) re-encoding is amortized O(1) per append.
+     */
+    private void reconsider() {
+        this.nextCheck = this.size * 2;
+        boolean dictionaryIsSmaller = this.dictionaryBytes() < this.runLengthBytes();
+        if (dictionaryIsSmaller == this.runLength) {
+            Object[] items = new Object[this.size];
+            this.copyInto(0, items, 0, this.size);
+            this.encode(items, this.size);
+        }
+    }
+
+    /**
+     * private method to add an element to the run count, and to the runs if run-length encoding is used.
+     * @param val the element being added to the end.
+     */
+    private void countRun(Object val) {
+        if (this.size > 0 && Objects.equals(this.get(this.size - 1), val)) {
+            if (this.runLength) {
+                this.runEnds[this.runCount - 1] += 1;
+            }
+            return;
+        }
+        if (this.runLength) {
+            if (this.runCount == this.runValues.length) {
+                this.runValues = Arrays.copyOf(this.runValues, this.runCount * 2);
+                this.runEnds = Arrays.copyOf(this.runEnds, this.runCount * 2);
+            }
+            this.runValues[this.runCount] = val;
+            this.runEnds[this.runCount] = this.size + 1;
+        }
+        this.runCount += 1;
+    }
+
+    /**
+     * private method for returning the code of a value, adding it to the dictionary if it is new.
+     * If the dictionary is already full, it is dropped while run-length encoding is used. While dictionary
+     * encoding is used it is left alone, since the elements are still read through it, and the caller has to
+     * decode them and switch to run-length encoding.
+     * @param val the value.
+     * @return the code of the value, or -1 if there is no dictionary or it is full.
+     */
+    private int code(Object val) {
+        if (this.codes == null) {
+            return -1;
+        }
+        Integer code = this.codes.get(val);
+        if (code != null) {
+            return code;
+        }
+        if (this.dictionarySize == MAX_DICTIONARY_SIZE) {
+            if (!this.runLength) {
+                return -1;
+            }
+            this.codes = null;
+            this.dictionary = null;
+            return -1;
+        }
+        if (this.dictionarySize == this.dictionary.length) {
+            this.dictionary = Arrays.copyOf(this.dictionary, this.dictionarySize * 2);
+        }
+        this.dictionary[this.dictionarySize] = val;
+        this.codes.put(val, this.dictionarySize);
+        this.dictionarySize += 1;
+        return this.dictionarySize - 1;
+    }
+
+    /**
+     * private method for returning the number of bits needed for a code when there are a given number of values.
+     * @param numCodes the number of distinct values.
+     * @return the number of bits, at least 1.
+     */
+    private static int bitsFor(int numCodes) {
+        return numCodes <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(numCodes - 1);
+    }
+
+    /**
+     * private method for returning the number of longs needed to pack some codes, plus one so a code can always spill over.
+     * @param numVals the number of codes.
+     * @param bits the number of bits in each code.
+     * @return the number of longs.
+     */
+    private static int wordsFor(int numVals, int bits) {
+        return (int) (((long) numVals * bits + 63) >>> 6) + 1;
+    }
+
+    /**
+     * private method for reading a packed code.
+     * @param index the index of the element.
+     * @return its code.
+     */
+    private int readCode(int index) {
+        return readCode(this.words, this.bitsPerCode, index);
+    }
+
+    /**
+     * private method for writing a packed code.
+     * @param index the index of the element.
+     * @param code its code, which fits in bitsPerCode bits.
+     */
+    private void writeCode(int index, int code) {
+        writeCode(this.words, this.bitsPerCode, index, code);
+    }
+
+    /**
+     * private method for reading a code packed into an array of longs, which may be split across two of them.
+     * @param words the packed codes.
+     * @param bits the number of bits in each code.
+     * @param index the index of the code.
+     * @return the code.
+     */
+    private static int readCode(long[] words, int bits, int index) {
+        long bitPos = (long) index * bits;
+        int w = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        long value = words[w] >>> shift;
+        if (shift + bits > 64) { // the code continues in the next word
+            value |= words[w + 1] << (64 - shift);
+        }
+        return (int) (value & ((1L << bits) - 1));
+    }
+
+    /**
+     * private method for writing a code packed into an array of longs, which may be split across two of them.
+     * @param words the packed codes.
+     * @param bits the number of bits in each code.
+     * @param index the index of the code.
+     * @param code the code, which fits in bits bits.
+     */
+    private static void writeCode(long[] words, int bits, int index, int code) {
+        long mask = (1L << bits) - 1;
+        long bitPos = (long) index * bits;
+        int w = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        words[w] = (words[w] & ~(mask << shift)) | ((long) code << shift);
+        if (shift + bits > 64) {
+            int spilled = 64 - shift;
+            words[w + 1] = (words[w + 1] & ~(mask >>> spilled)) | ((long) code >>> spilled);
+        }
+    }
+
+    /**
+     * private method to make sure a code can be written at index, repacking the codes with more bits if the
+     * dictionary has outgrown the current width, and adding words if the array is full.
+     * @param index the index about to be written.
+     */
+    private void prepareCode(int index) {
+        int bits = bitsFor(this.dictionarySize);
+        if (bits > this.bitsPerCode) {
+            long[] repacked = new long[wordsFor(Math.max(this.size, 16) * 2, bits)];
+            for (int i = 0; i < this.size; i++) {
+                writeCode(repacked, bits, i, this.readCode(i));
+            }
+            this.words = repacked;
+            this.bitsPerCode = bits;
+        }
+        if (wordsFor(index + 1, this.bitsPerCode) > this.words.length) {
+            this.words = Arrays.copyOf(this.words, this.words.length * 2);
+        }
+    }
+
+    /**
+     * private method for estimating the bytes used by run-length encoding.
+     * @return the estimated size of the runs.
+     */
+    private long runLengthBytes() {
+        return (long) this.runCount * (REFERENCE_BYTES + Integer.BYTES);
+    }
+
+    /**
+     * private method for estimating the bytes used by dictionary encoding.
+     * @return the estimated size of the dictionary and packed codes, or Long.MAX_VALUE if there are too many values.
+     */
+    private long dictionaryBytes() {
+        if (this.codes == null) {
+            return Long.MAX_VALUE;
+        }
+        return (long) this.dictionarySize * REFERENCE_BYTES + (((long) this.size * bitsFor(this.dictionarySize) + 7) >>> 3);
+    }
+
+    /**
+     * Method for returning how many times smaller the elements are compressed than in a plain array of references.
+     * Both sizes are estimates that count only the references and codes, not the elements themselves, which are shared.
+     * @return the size of a plain array divided by the size of the compressed encoding.
+     */
+    public double compressionRatio() {
+        long compressed = this.runLength ? this.runLengthBytes() : this.dictionaryBytes();
+        long plain = (long) this.size * REFERENCE_BYTES;
+        return compressed == 0 ? 1.0 : (double) plain / compressed;
+    }
+
+    /**
+     * Method for checking which encoding is being used.
+     * @return true for run-length encoding, false for dictionary encoding.
+     */
+    public boolean isRunLengthEncoded() {
+        return this.runLength;
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index. Setting the element at index size is the same as appending it.
+     * With dictionary encoding this is O(1), with run-length encoding the array is re-encoded.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, or null if it was appended.
+     */
+    public T set(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) {
+            this.append(val);
+            return null;
+        }
+        T previousVal = this.get(index);
+        if (!this.runLength) {
+            // adjust the run count for the boundaries on either side of the element changing
+            this.runCount += this.boundaries(index, val) - this.boundaries(index, previousVal);
+            int code = this.code(val);
+            if (code >= 0) {
+                this.prepareCode(index);
+                this.writeCode(index, code);
+                return previousVal;
+            }
+        }
+        Object[] items = new Object[this.size];
+        this.copyInto(0, items, 0, this.size);
+        items[index] = val;
+        this.encode(items, this.size);
+        return previousVal;
+    }
+
+    /**
+     * private method for counting how many run boundaries there would be next to an index if it held a given value.
+     * @param index the index.
+     * @param val the value it would hold.
+     * @return 0, 1 or 2.
+     */
+    private int boundaries(int index, Object val) {
+        int count = 0;
+        if (index > 0 && !Objects.equals(this.get(index - 1), val)) {
+            count += 1;
+        }
+        if (index < this.size - 1 && !Objects.equals(this.get(index + 1), val)) {
+            count += 1;
+        }
+        return count;
+    }
+
+    /**
+     * Method to access a value stored in a specified index, in O(log runs) with run-length encoding and O(1) with dictionary encoding.
+     * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (this.runLength) {
+            return (T) this.runValues[this.runOf(index)];
+        }
+        return (T) this.dictionary[this.readCode(index)];
+    }
+
+    /**
+     * private method for finding which run holds an index, with a binary search over the run ends.
+     * @param index the index of an element.
+     * @return the number of the run holding it.
+     */
+    private int runOf(int index) {
+        int lo = 0;
+        int hi = this.runCount - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.runEnds[mid] <= index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Method for returning the number of elements stored in the CompressedDynamicArray.
+     * @return the number of elements currently stored.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element at a specified index, which re-encodes the array.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (index == this.size) {
+            this.append(val);
+            return;
+        }
+        Object[] items = new Object[this.size + 1];
+        this.copyInto(0, items, 0, index);
+        items[index] = val;
+        this.copyInto(index, items, index + 1, this.size - index);
+        this.encode(items, items.length);
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the CompressedDynamicArray.
+     * This extends the last run or adds a new one, and adds a packed code with dictionary encoding.
+     * @param val the value being appended.
+     */
+    public void append(T val) {
+        this.countRun(val);
+        int code = this.code(val);
+        if (!this.runLength) {
+            if (code < 0) { // too many distinct values for a dictionary, so switch to run-length encoding
+                Object[] items = new Object[this.size + 1];
+                this.copyInto(0, items, 0, this.size);
+                items[this.size] = val;
+                this.encode(items, items.length);
+                return;
+            }
+            this.prepareCode(this.size);
+            this.writeCode(this.size, code);
+        }
+        this.size += 1;
+        if (this.size >= this.nextCheck) {
+            this.reconsider();
+        }
+    }
+
+    /**
+     * Method to remove an element, which re-encodes the array.
+     * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        T removedElem = this.get(index);
+        Object[] items = new Object[this.size - 1];
+        this.copyInto(0, items, 0, index);
+        this.copyInto(index + 1, items, index, this.size - index - 1);
+        this.encode(items, items.length);
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this CompressedDynamicArray,
+     * where the result is returned as a new CompressedDynamicArray object.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new CompressedDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public CompressedDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT at a specified index.
+     * The result is returned as a new CompressedDynamicArray, with whichever encoding suits it.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted.
+     * @return a new CompressedDynamicArray which is the current one with the new elements inserted.
+     */
+    public CompressedDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        Object[] items = new Object[this.size + insertedVals];
+        this.copyInto(0, items, 0, index);
+        newArray.copyInto(0, items, index, insertedVals);
+        this.copyInto(index, items, index + insertedVals, this.size - index);
+        return new CompressedDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new CompressedDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the result.
+     * @return A new CompressedDynamicArray of all the elements after and including the specified index.
+     */
+    public CompressedDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new CompressedDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out.
+     * @return The new CompressedDynamicArray made up of the separated out elements.
+     */
+    public CompressedDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current CompressedDynamicArray is not modified, and the result is returned as a new CompressedDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new CompressedDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public CompressedDynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        Object[] items = new Object[this.size - (endIndex - startIndex)];
+        this.copyInto(0, items, 0, startIndex);
+        this.copyInto(endIndex, items, startIndex, this.size - endIndex);
+        return new CompressedDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * Method for taking an extract starting at a given index and ending just before an ending index.
+     * The result is returned as a new CompressedDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new CompressedDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public CompressedDynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        Object[] items = new Object[endIndex - startIndex];
+        this.copyInto(startIndex, items, 0, items.length);
+        return new CompressedDynamicArray<T>(items, items.length);
+    }
+
+    /**
+     * private method to check that startIndex and endIndex describe a valid range.
+     * @param startIndex the first index of the range.
+     * @param endIndex the index just after the last one in the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method to decode a range of elements into an array. With run-length encoding each run is written with one fill,
+     * and with dictionary encoding each code is unpacked and looked up.
+     * If the range is outside of this CompressedDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        if (len == 0) {
+            return;
+        }
+        int end = srcPos + len;
+        if (this.runLength) {
+            int run = this.runOf(srcPos);
+            for (int i = srcPos; i < end; run++) {
+                int runEnd = Math.min(end, this.runEnds[run]);
+                Arrays.fill(dest, destPos + (i - srcPos), destPos + (runEnd - srcPos), this.runValues[run]);
+                i = runEnd;
+            }
+        } else {
+            for (int i = srcPos; i < end; i++) {
+                dest[destPos + (i - srcPos)] = this.dictionary[this.readCode(i)];
+            }
+        }
+    }
+
+    /**
+     * Method to convert the CompressedDynamicArray into a String representation of the object.
+     * @return a String representation of the CompressedDynamicArray object
+     */
+    public String toString() {
+        Object[] items = new Object[this.size];
+        this.copyInto(0, items, 0, this.size);
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(items[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
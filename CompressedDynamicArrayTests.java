@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of CompressedDynamicArray, with both run-length and dictionary encoding.
+ */
+public class CompressedDynamicArrayTests {
+
+    private CompressedDynamicArray<Character> a1;
+    private CompressedDynamicArray<Character> a2;
+
+    /**
+     * Initializes CompressedDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("aaaabbbcccccd");
+        a2 = stringToArray("xy");
+    }
+
+    /**
+     * Puts the characters of a string into a CompressedDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public CompressedDynamicArray<Character> stringToArray(String s) {
+        CompressedDynamicArray<Character> result = new CompressedDynamicArray<Character>();
+        for (int i = 0; i < s.length(); i++) {
+            result.append(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests the mutable and functional methods on a small array.
+     */
+    @Test
+    public void testMethods() {
+        compareToString(a1, "aaaabbbcccccd");
+        assertEquals(Character.valueOf('b'), a1.set(5, 'z'));
+        a1.add(0, 'q');
+        assertEquals(Character.valueOf('d'), a1.remove(13));
+        compareToString(a1, "qaaaabzbccccc");
+        compareToString(a1.insert(2, a2), "qaxyaaabzbccccc");
+        compareToString(a1.append(a2), "qaaaabzbcccccxy");
+        compareToString(a1.delete(1, 8), "qccccc");
+        compareToString(a1.extract(3, 9), "aabzbc");
+        compareToString(a1.splitPrefix(2), "qa");
+        compareToString(a1.splitSuffix(11), "cc");
+        assertEquals("[q, a, a, a, a, b, z, b, c, c, c, c, c]", a1.toString());
+    }
+
+    /**
+     * Tests that long runs are run-length encoded, and that values from a small set in no particular order
+     * switch to dictionary encoding with a few bits per element.
+     */
+    @Test
+    public void testEncodingIsChosen() {
+        CompressedDynamicArray<Integer> runs = new CompressedDynamicArray<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            runs.append(i / 1000);
+        }
+        assertTrue(runs.isRunLengthEncoded());
+        assertTrue(runs.compressionRatio() > 100);
+        assertEquals(Integer.valueOf(57), runs.get(57999));
+
+        Random random = new Random(3);
+        CompressedDynamicArray<String> levels = new CompressedDynamicArray<String>();
+        String[] names = {"DEBUG", "INFO", "WARN", "ERROR"};
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 100000; i++) {
+            String name = names[random.nextInt(names.length)];
+            levels.append(name);
+            expected.add(name);
+        }
+        assertFalse(levels.isRunLengthEncoded());
+        assertTrue(levels.compressionRatio() > 10); // 2 bits instead of a 32 bit reference
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), levels.get(i));
+        }
+    }
+
+    /**
+     * Tests random edits against an ArrayList, with the number of distinct values growing past what
+     * each code width can hold, so the codes are repacked.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(8);
+        CompressedDynamicArray<Integer> compressed = new CompressedDynamicArray<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int step = 0; step < 3000; step++) {
+            int choice = random.nextInt(10);
+            int val = random.nextInt(1 + step / 100);
+            if (choice < 1 && !expected.isEmpty()) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.remove(i), compressed.remove(i));
+            } else if (choice < 2) {
+                int i = random.nextInt(expected.size() + 1);
+                expected.add(i, val);
+                compressed.add(i, val);
+            } else if (choice < 4 && !expected.isEmpty()) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.set(i, val), compressed.set(i, val));
+            } else {
+                expected.add(val);
+                compressed.append(val);
+            }
+        }
+        assertEquals(expected.toString(), compressed.toString());
+    }
+
+    /**
+     * Tests that a dictionary-encoded array switches to run-length encoding when one more distinct value
+     * than the dictionary can hold is appended or set, and keeps every element.
+     */
+    @Test
+    public void testDictionaryOverflow() {
+        Random random = new Random(20);
+        CompressedDynamicArray<Integer> compressed = new CompressedDynamicArray<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1 << 16; i++) {
+            compressed.append(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 200000; i++) {
+            int val = random.nextInt(1 << 16);
+            compressed.append(val);
+            expected.add(val);
+        }
+        assertFalse(compressed.isRunLengthEncoded());
+        compressed.append(-1);
+        expected.add(-1);
+        assertTrue(compressed.isRunLengthEncoded());
+        assertEquals(expected.toString(), compressed.toString());
+
+        CompressedDynamicArray<Integer> other = new CompressedDynamicArray<Integer>();
+        for (int i = 0; i < expected.size() - 1; i++) {
+            other.append(expected.get(i));
+        }
+        assertFalse(other.isRunLengthEncoded());
+        assertEquals(Integer.valueOf(5), other.set(5, -2));
+        assertTrue(other.isRunLengthEncoded());
+        assertEquals(Integer.valueOf(-2), other.get(5));
+        assertEquals(expected.get(6), other.get(6));
+        assertEquals(expected.size() - 1, other.size());
+    }
+}
@@ -0,0 +1,664 @@
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe implementation of the DynamicArrayADT, which can be shared between threads without any outside locking.
+ * Reads (get and size) use the optimistic mode of a StampedLock: they read the fields without taking the lock,
+ * then check that no write happened in the meantime, and only take a read lock if one did. This means readers
+ * never write to shared memory, so a read-heavy workload scales with the number of cores.
+ * Writes (set, add, remove and append) take the write lock, and each one only holds it for a single short operation.
+ * The elements are stored in chunks of CHUNK elements, found through a table of chunks. The functional methods work
+ * on a snapshot: the table is marked as shared while the write lock is held for an instant, and the elements are
+ * then copied with no lock held. The next write copies only the table, and each chunk is copied the first time
+ * a write after the snapshot changes it, so a set or append right after a snapshot copies n / CHUNK table entries
+ * and one chunk instead of the whole array. add and remove still shift every element after the index, and copy
+ * the chunks they shift on the way.
+ * @param <T> the type of the ConcurrentDynamicArray object must be specified when a new instance is declared.
+ */
+public class ConcurrentDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the log2 of the number of elements in a chunk
+     */
+    private static final int CHUNK_SHIFT = 7;
+
+    /**
+     * the number of elements in a chunk
+     */
+    public static final int CHUNK = 1 << CHUNK_SHIFT;
+
+    /**
+     * the mask for the position of an index within its chunk
+     */
+    private static final int CHUNK_MASK = CHUNK - 1;
+
+    /**
+     * the lock guarding chunks, owned, size and shared
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * the table of chunks that hold the elements, where a chunk is null until an element is written to it
+     */
+    private T[][] chunks;
+
+    /**
+     * which chunks were created or copied since the last snapshot, and so can be written in place
+     */
+    private boolean[] owned;
+
+    /**
+     * the number of elements set in the array
+     */
+    private int size;
+
+    /**
+     * whether a snapshot might still be reading the table of chunks, in which case it is copied before the next write
+     */
+    private boolean shared;
+
+    /**
+     * the strategy used to pick a new capacity when the table of chunks runs out of room
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * the counters for the elements this ConcurrentDynamicArray copies, which only count with -Ddynamicarray.metrics=true
+     */
+    private final DynamicArrayMetrics metrics = new DynamicArrayMetrics();
+
+    /**
+     * Constructor for the ConcurrentDynamicArray class. The table of chunks doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     */
+    public ConcurrentDynamicArray(int size) {
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the ConcurrentDynamicArray class which uses a specified growth policy.
+     * The capacity is rounded up to a whole number of chunks.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the table of chunks fills up.
+     */
+    public ConcurrentDynamicArray(int size, GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("The size cannot be negative");
+        }
+        this.chunks = allocateTable(chunksFor(size));
+        this.owned = new boolean[this.chunks.length];
+        this.size = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * private constructor for a ConcurrentDynamicArray that takes ownership of a table of chunks that nothing else refers to.
+     * @param chunks the table of chunks, holding size elements.
+     * @param size the number of elements set in the chunks.
+     * @param growthPolicy the strategy used to choose the new capacity when the table of chunks fills up.
+     */
+    private ConcurrentDynamicArray(T[][] chunks, int size, GrowthPolicy growthPolicy) {
+        this.chunks = chunks;
+        this.owned = new boolean[chunks.length];
+        Arrays.fill(this.owned, true);
+        this.size = size;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * private method for returning the number of chunks needed to hold a number of elements.
+     * @param numVals the number of elements.
+     * @return the number of chunks.
+     */
+    private static int chunksFor(int numVals) {
+        return (int) (((long) numVals + CHUNK_MASK) >> CHUNK_SHIFT);
+    }
+
+    /**
+     * private method to allocate a table of chunks of generic type, with every chunk still null.
+     * @param len the number of chunks in the table.
+     * @return the new table.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[][] allocateTable(int len) {
+        return (T[][]) new Object[len][];
+    }
+
+    /**
+     * private method to allocate a chunk of generic type.
+     * @return the new chunk.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] allocateChunk() {
+        return (T[]) new Object[CHUNK];
+    }
+
+    /**
+     * private method to build a table of chunks holding a number of elements, with every chunk they need allocated.
+     * @param numVals the number of elements the table will hold.
+     * @return the new table.
+     */
+    private static <T> T[][] allocateChunks(int numVals) {
+        T[][] table = allocateTable(chunksFor(numVals));
+        for (int c = 0; c < table.length; c++) {
+            table[c] = allocateChunk();
+        }
+        return table;
+    }
+
+    /**
+     * private method to copy elements from a table of chunks into an array, one block copy for each chunk covered.
+     * @param src the table of chunks being copied from.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array being copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    private static void copyOut(Object[][] src, int srcPos, Object[] dest, int destPos, int len) {
+        while (len > 0) {
+            int count = Math.min(len, CHUNK - (srcPos & CHUNK_MASK));
+            System.arraycopy(src[srcPos >> CHUNK_SHIFT], srcPos & CHUNK_MASK, dest, destPos, count);
+            srcPos += count;
+            destPos += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * private method to copy elements from one table of chunks into another, splitting the copy wherever
+     * either side crosses into a new chunk.
+     * @param src the table of chunks being copied from.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the table of chunks being copied into, which must have every chunk in the range allocated.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    private static void copyChunks(Object[][] src, int srcPos, Object[][] dest, int destPos, int len) {
+        while (len > 0) {
+            int count = Math.min(len, CHUNK - Math.max(srcPos & CHUNK_MASK, destPos & CHUNK_MASK));
+            System.arraycopy(src[srcPos >> CHUNK_SHIFT], srcPos & CHUNK_MASK,
+                    dest[destPos >> CHUNK_SHIFT], destPos & CHUNK_MASK, count);
+            srcPos += count;
+            destPos += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * private method to make sure the table of chunks can be written to and can hold minCapacity elements.
+     * If a snapshot might still be reading the table it is copied, and every chunk is marked as not owned
+     * so that it is copied before it is written. Must be called while holding the write lock.
+     * @param minCapacity the number of elements the table needs room for.
+     */
+    private void prepareWrite(int minCapacity) {
+        if (this.shared) {
+            this.chunks = this.chunks.clone();
+            this.owned = new boolean[this.chunks.length];
+            this.shared = false;
+            if (DynamicArrayMetrics.ENABLED) {
+                this.metrics.recordReallocation();
+                this.metrics.recordCopy(this.chunks.length);
+            }
+        }
+        int minChunks = chunksFor(minCapacity);
+        if (minChunks > this.chunks.length) {
+            long newCapacity = this.growthPolicy.grow(this.chunks.length << CHUNK_SHIFT, minCapacity);
+            int newChunks = Math.max(chunksFor((int) Math.min(newCapacity, Integer.MAX_VALUE)), minChunks);
+            this.chunks = Arrays.copyOf(this.chunks, newChunks);
+            this.owned = Arrays.copyOf(this.owned, newChunks);
+        }
+    }
+
+    /**
+     * private method for returning a chunk that can be written in place, creating it if it doesn't exist yet,
+     * and copying it first if a snapshot might still be reading it. Must be called after prepareWrite.
+     * @param c the number of the chunk.
+     * @return the chunk.
+     */
+    private T[] writable(int c) {
+        if (!this.owned[c]) {
+            if (this.chunks[c] == null) {
+                this.chunks[c] = allocateChunk();
+            } else {
+                this.chunks[c] = this.chunks[c].clone();
+                if (DynamicArrayMetrics.ENABLED) {
+                    this.metrics.recordCopy(CHUNK);
+                }
+            }
+            this.owned[c] = true;
+        }
+        return this.chunks[c];
+    }
+
+    /**
+     * Method for returning the counters of the table copies and copied elements of this ConcurrentDynamicArray,
+     * which include the chunks copied by the first writes after a snapshot.
+     * The counters stay at zero unless the JVM was started with -Ddynamicarray.metrics=true.
+     * @return the metrics for this ConcurrentDynamicArray.
+     */
+    public DynamicArrayMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    // SNAPSHOTS //
+
+    /**
+     * A consistent view of the elements at one moment, which no write will ever change.
+     * @param <T> the type of the elements.
+     */
+    private static final class Snapshot<T> {
+        /**
+         * the table of chunks at the moment the snapshot was taken, only the first size elements are used
+         */
+        private final T[][] chunks;
+
+        /**
+         * the number of elements at the moment the snapshot was taken
+         */
+        private final int size;
+
+        /**
+         * Constructor for a Snapshot.
+         * @param chunks the table of chunks, which writers will no longer change.
+         * @param size the number of elements.
+         */
+        private Snapshot(T[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+    }
+
+    /**
+     * private method to take a snapshot of the elements. If the table of chunks is already shared the snapshot is
+     * taken with an optimistic read, otherwise the write lock is held just long enough to mark it as shared.
+     * @return a snapshot of the current elements.
+     */
+    private Snapshot<T> snapshot() {
+        long stamp = this.lock.tryOptimisticRead();
+        T[][] table = this.chunks;
+        int numVals = this.size;
+        if (this.shared && this.lock.validate(stamp)) {
+            return new Snapshot<T>(table, numVals);
+        }
+        stamp = this.lock.writeLock();
+        try {
+            this.shared = true;
+            return new Snapshot<T>(this.chunks, this.size);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * private method to copy the elements of any DynamicArrayADT into a new table of chunks, using a snapshot if it is
+     * another ConcurrentDynamicArray so that its size can't change between reading the size and copying.
+     * @param arr the DynamicArrayADT being copied.
+     * @return a snapshot of the elements of arr.
+     */
+    private static <T> Snapshot<T> snapshotOf(DynamicArrayADT<T> arr) {
+        if (arr instanceof ConcurrentDynamicArray) {
+            return ((ConcurrentDynamicArray<T>) arr).snapshot();
+        }
+        int numVals = arr.size();
+        T[][] table = allocateChunks(numVals);
+        for (int c = 0; c < table.length; c++) {
+            arr.copyInto(c << CHUNK_SHIFT, table[c], 0, Math.min(CHUNK, numVals - (c << CHUNK_SHIFT)));
+        }
+        return new Snapshot<T>(table, numVals);
+    }
+
+    /**
+     * Method for returning the capacity of the table of chunks.
+     * @return the number of elements that can be stored before the table of chunks has to grow.
+     */
+    public int capacity() {
+        long stamp = this.lock.tryOptimisticRead();
+        int capacity = this.chunks.length << CHUNK_SHIFT;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                capacity = this.chunks.length << CHUNK_SHIFT;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return capacity;
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the ConcurrentDynamicArray.
+     * Setting the element at index size is the same as appending it.
+     * If the index is out of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            this.prepareWrite(Math.max(this.size, index + 1));
+            T[] chunk = this.writable(index >> CHUNK_SHIFT);
+            T previousVal = chunk[index & CHUNK_MASK];
+            chunk[index & CHUNK_MASK] = val;
+            if (index == this.size) {
+                this.size += 1;
+            }
+            return previousVal;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Method to access a value stored in a specified index, without taking a lock unless a write is happening at the same time.
+     * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        long stamp = this.lock.tryOptimisticRead();
+        T[][] table = this.chunks;
+        int numVals = this.size;
+        // the fields might be changing underneath this read, so make sure the chunk exists before using it
+        T[] chunk = (index >= 0 && index < numVals && (index >> CHUNK_SHIFT) < table.length) ? table[index >> CHUNK_SHIFT] : null;
+        T item = chunk != null ? chunk[index & CHUNK_MASK] : null;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                numVals = this.size;
+                item = (index >= 0 && index < numVals) ? this.chunks[index >> CHUNK_SHIFT][index & CHUNK_MASK] : null;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= numVals) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return item;
+    }
+
+    /**
+     * Method for returning the number of elements stored in the ConcurrentDynamicArray.
+     * @return the number of elements currently stored.
+     */
+    public int size() {
+        long stamp = this.lock.tryOptimisticRead();
+        int numVals = this.size;
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+            try {
+                numVals = this.size;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return numVals;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element at a specified index, shifting the elements after it one to the right.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException("Invalid Index");
+            }
+            this.prepareWrite(this.size + 1);
+            int first = index >> CHUNK_SHIFT;
+            int last = this.size >> CHUNK_SHIFT;
+            // shift one chunk at a time from the end, carrying the last element of each chunk into the next one
+            for (int c = last; c >= first; c--) {
+                T[] chunk = this.writable(c);
+                int lo = (c == first) ? (index & CHUNK_MASK) : 0;
+                int hi = (c == last) ? (this.size & CHUNK_MASK) : CHUNK_MASK;
+                System.arraycopy(chunk, lo, chunk, lo + 1, hi - lo);
+                chunk[lo] = (c == first) ? val : this.chunks[c - 1][CHUNK_MASK];
+            }
+            if (DynamicArrayMetrics.ENABLED) {
+                this.metrics.recordCopy(this.size - index);
+            }
+            this.size += 1;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the ConcurrentDynamicArray.
+     * @param val the value being appended.
+     */
+    public void append(T val) {
+        long stamp = this.lock.writeLock();
+        try {
+            this.prepareWrite(this.size + 1);
+            this.writable(this.size >> CHUNK_SHIFT)[this.size & CHUNK_MASK] = val;
+            this.size += 1;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Method to remove an element, shifting the elements after it one to the left.
+     * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            this.prepareWrite(this.size);
+            T removedElem = this.chunks[index >> CHUNK_SHIFT][index & CHUNK_MASK];
+            int first = index >> CHUNK_SHIFT;
+            int last = (this.size - 1) >> CHUNK_SHIFT;
+            // shift one chunk at a time from the index, carrying the first element of each chunk into the one before
+            for (int c = first; c <= last; c++) {
+                T[] chunk = this.writable(c);
+                int lo = (c == first) ? (index & CHUNK_MASK) : 0;
+                int hi = (c == last) ? ((this.size - 1) & CHUNK_MASK) : CHUNK_MASK;
+                System.arraycopy(chunk, lo + 1, chunk, lo, hi - lo);
+                // the leftover slot at the end is cleared so the element can be garbage collected
+                chunk[hi] = (c == last) ? null : this.chunks[c + 1][0];
+            }
+            if (DynamicArrayMetrics.ENABLED) {
+                this.metrics.recordCopy(this.size - index - 1);
+            }
+            this.size -= 1;
+            return removedElem;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of a snapshot of this ConcurrentDynamicArray,
+     * where the result is returned as a new ConcurrentDynamicArray object.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new ConcurrentDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public ConcurrentDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        Snapshot<T> snap = this.snapshot();
+        return join(snap, snap.size, snapshotOf(newArray), this.growthPolicy);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into a snapshot of this ConcurrentDynamicArray at
+     * a specified index. The result is returned as a new ConcurrentDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted.
+     * @return a new ConcurrentDynamicArray which is the snapshot with the new elements inserted.
+     */
+    public ConcurrentDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        Snapshot<T> snap = this.snapshot();
+        if (index < 0 || index > snap.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return join(snap, index, snapshotOf(newArray), this.growthPolicy);
+    }
+
+    /**
+     * private method to build a new ConcurrentDynamicArray from one snapshot with another inserted at an index.
+     * @param snap the snapshot being inserted into.
+     * @param index the index where the inserted elements go.
+     * @param inserted the snapshot being inserted.
+     * @param growthPolicy the growth policy of the new ConcurrentDynamicArray.
+     * @return the new ConcurrentDynamicArray.
+     */
+    private static <T> ConcurrentDynamicArray<T> join(Snapshot<T> snap, int index, Snapshot<T> inserted, GrowthPolicy growthPolicy) {
+        int numVals = snap.size + inserted.size;
+        T[][] table = allocateChunks(numVals);
+        copyChunks(snap.chunks, 0, table, 0, index);
+        copyChunks(inserted.chunks, 0, table, index, inserted.size);
+        copyChunks(snap.chunks, index, table, index + inserted.size, snap.size - index);
+        return new ConcurrentDynamicArray<T>(table, numVals, growthPolicy);
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after, in a snapshot of this ConcurrentDynamicArray,
+     * as a new ConcurrentDynamicArray. If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the result.
+     * @return A new ConcurrentDynamicArray of all the elements after and including the specified index.
+     */
+    public ConcurrentDynamicArray<T> splitSuffix(int index) {
+        Snapshot<T> snap = this.snapshot();
+        if (index < 0 || index > snap.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.copyOfRange(snap, index, snap.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index in a snapshot of
+     * this ConcurrentDynamicArray, and returning those elements as a new ConcurrentDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out.
+     * @return The new ConcurrentDynamicArray made up of the separated out elements.
+     */
+    public ConcurrentDynamicArray<T> splitPrefix(int index) {
+        Snapshot<T> snap = this.snapshot();
+        if (index < 0 || index > snap.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.copyOfRange(snap, 0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex in a snapshot of this ConcurrentDynamicArray.
+     * The current ConcurrentDynamicArray is not modified, and the result is returned as a new ConcurrentDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new ConcurrentDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public ConcurrentDynamicArray<T> delete(int startIndex, int endIndex) {
+        Snapshot<T> snap = this.snapshot();
+        checkRange(startIndex, endIndex, snap.size);
+        int numVals = snap.size - (endIndex - startIndex);
+        T[][] table = allocateChunks(numVals);
+        copyChunks(snap.chunks, 0, table, 0, startIndex);
+        copyChunks(snap.chunks, endIndex, table, startIndex, snap.size - endIndex);
+        return new ConcurrentDynamicArray<T>(table, numVals, this.growthPolicy);
+    }
+
+    /**
+     * Method for taking an extract from a snapshot of this ConcurrentDynamicArray starting at a given index
+     * and ending just before an ending index. The result is returned as a new ConcurrentDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new ConcurrentDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public ConcurrentDynamicArray<T> extract(int startIndex, int endIndex) {
+        Snapshot<T> snap = this.snapshot();
+        checkRange(startIndex, endIndex, snap.size);
+        return this.copyOfRange(snap, startIndex, endIndex);
+    }
+
+    /**
+     * private method to copy part of a snapshot into a new ConcurrentDynamicArray.
+     * @param snap the snapshot being copied from.
+     * @param startIndex the first index copied.
+     * @param endIndex the index just after the last one copied.
+     * @return the new ConcurrentDynamicArray.
+     */
+    private ConcurrentDynamicArray<T> copyOfRange(Snapshot<T> snap, int startIndex, int endIndex) {
+        T[][] table = allocateChunks(endIndex - startIndex);
+        copyChunks(snap.chunks, startIndex, table, 0, endIndex - startIndex);
+        return new ConcurrentDynamicArray<T>(table, endIndex - startIndex, this.growthPolicy);
+    }
+
+    /**
+     * private method to check that startIndex and endIndex describe a valid range of a snapshot.
+     * @param startIndex the first index of the range.
+     * @param endIndex the index just after the last one in the range.
+     * @param numVals the number of elements in the snapshot.
+     */
+    private static void checkRange(int startIndex, int endIndex, int numVals) {
+        if (startIndex < 0 || startIndex > numVals) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > numVals) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method to copy a range of elements from a snapshot into an array.
+     * If the range is outside of the snapshot or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        Snapshot<T> snap = this.snapshot();
+        if (srcPos < 0 || len < 0 || srcPos > snap.size - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        if (destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        copyOut(snap.chunks, srcPos, dest, destPos, len);
+    }
+
+    /**
+     * Method to convert a snapshot of the ConcurrentDynamicArray into a String representation.
+     * @return a String representation of the ConcurrentDynamicArray object
+     */
+    public String toString() {
+        Snapshot<T> snap = this.snapshot();
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < snap.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(snap.chunks[i >> CHUNK_SHIFT][i & CHUNK_MASK]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,195 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of ConcurrentDynamicArray, on one thread and shared between several.
+ */
+public class ConcurrentDynamicArrayTests {
+
+    private ConcurrentDynamicArray<Character> a1;
+    private ConcurrentDynamicArray<Character> a2;
+
+    /**
+     * Initializes ConcurrentDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into a ConcurrentDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public ConcurrentDynamicArray<Character> stringToArray(String s) {
+        ConcurrentDynamicArray<Character> result = new ConcurrentDynamicArray<Character>(2);
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests the mutable and functional methods on a single thread.
+     */
+    @Test
+    public void testSingleThreaded() {
+        a1.add(2, 'm');
+        assertEquals(Character.valueOf('a'), a1.remove(0));
+        compareToString(a1, "bmcdef");
+        compareToString(a1.insert(1, a2), "bwxyzmcdef");
+        compareToString(a1.append(new DynamicArray<Character>(0)), "bmcdef");
+        compareToString(a1.delete(1, 3), "bdef");
+        compareToString(a1.extract(2, 4), "cd");
+        compareToString(a1.splitPrefix(2), "bm");
+        compareToString(a1.splitSuffix(4), "ef");
+        assertEquals("[w, x, y, z]", a2.toString());
+    }
+
+    /**
+     * Tests that writes made after a snapshot is taken don't show up in the result, or in other snapshots.
+     */
+    @Test
+    public void testSnapshotsAreIsolated() {
+        ConcurrentDynamicArray<Character> copy = a1.extract(0, 6);
+        a1.set(0, 'A');
+        a1.append('g');
+        ConcurrentDynamicArray<Character> later = a1.extract(0, 7);
+        a1.remove(1);
+        compareToString(copy, "abcdef");
+        compareToString(later, "Abcdefg");
+        compareToString(a1, "Acdefg");
+    }
+
+    /**
+     * Tests random adds, removes and sets across many chunks against an ArrayList, with snapshots taken in between
+     * that must keep the elements they had when they were taken.
+     */
+    @Test
+    public void testEditsAcrossChunks() {
+        ConcurrentDynamicArray<Integer> nums = new ConcurrentDynamicArray<Integer>(0);
+        List<Integer> expected = new ArrayList<Integer>();
+        Random random = new Random(13);
+        for (int i = 0; i < 1000; i++) {
+            nums.append(i);
+            expected.add(i);
+        }
+        for (int round = 0; round < 20; round++) {
+            ConcurrentDynamicArray<Integer> snap = nums.extract(0, nums.size());
+            List<Integer> snapExpected = new ArrayList<Integer>(expected);
+            for (int i = 0; i < 50; i++) {
+                int index = random.nextInt(expected.size());
+                int op = random.nextInt(3);
+                if (op == 0) {
+                    nums.add(index, -i);
+                    expected.add(index, -i);
+                } else if (op == 1) {
+                    assertEquals(expected.remove(index), nums.remove(index));
+                } else {
+                    assertEquals(expected.set(index, i), nums.set(index, i));
+                }
+            }
+            assertEquals(snapExpected.toString(), snap.toString());
+            assertEquals(expected.toString(), nums.toString());
+        }
+    }
+
+    /**
+     * Tests the cost of a write after a snapshot: it copies the table of chunks and the one chunk it changes,
+     * not the whole array, and later writes to the same chunk copy nothing more until the next snapshot.
+     * The counters only run when the JVM is started with -Ddynamicarray.metrics=true, which the Maven build does.
+     */
+    @Test
+    public void testWriteAfterSnapshotCopiesOneChunk() {
+        Assume.assumeTrue(DynamicArrayMetrics.ENABLED);
+        int numVals = 100000;
+        ConcurrentDynamicArray<Integer> nums = new ConcurrentDynamicArray<Integer>(numVals);
+        for (int i = 0; i < numVals; i++) {
+            nums.append(i);
+        }
+        ConcurrentDynamicArray<Integer> snap = nums.splitPrefix(10);
+        DynamicArrayMetrics metrics = nums.getMetrics();
+        metrics.reset();
+        nums.set(5, -1);
+        int tableLength = nums.capacity() / ConcurrentDynamicArray.CHUNK;
+        assertEquals(tableLength + ConcurrentDynamicArray.CHUNK, metrics.getElementsCopied());
+        nums.set(6, -2); // same chunk, which is already a private copy
+        assertEquals(tableLength + ConcurrentDynamicArray.CHUNK, metrics.getElementsCopied());
+        nums.append(numVals); // the last chunk is still shared, so it is copied once
+        nums.append(numVals + 1);
+        assertEquals(tableLength + 2 * ConcurrentDynamicArray.CHUNK, metrics.getElementsCopied());
+        assertEquals(Integer.valueOf(5), snap.get(5));
+        assertEquals(Integer.valueOf(-1), nums.get(5));
+    }
+
+    /**
+     * Tests that appends from several threads are all kept, while readers scan the array and take snapshots.
+     */
+    @Test
+    public void testConcurrentAppendsAndReads() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> shared = new ConcurrentDynamicArray<Integer>(1);
+        int writers = 4;
+        int perWriter = 20000;
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean done = new AtomicBoolean(false);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int w = 0; w < writers; w++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    shared.append(i);
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int numVals = shared.size();
+                for (int i = 0; i < numVals; i++) {
+                    if (shared.get(i) == null) { // elements are never removed, so every index below size is set
+                        failed.set(true);
+                    }
+                }
+                ConcurrentDynamicArray<Integer> snap = shared.extract(0, numVals);
+                if (snap.size() != numVals) {
+                    failed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(writers * perWriter, shared.size());
+        long total = 0;
+        for (int i = 0; i < shared.size(); i++) {
+            total += shared.get(i);
+        }
+        assertEquals((long) writers * perWriter * (perWriter - 1) / 2, total);
+    }
+}
@@ -1,3 +1,31 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Implementation of the DynamicArrayADT which mimics the functionality of an ArrayList in java.
  * Though some methods in group 3 are functional in DynamicArrays and not functional in ArrayList.
@@ -8,9 +36,20 @@
  * two using a given index as the splitting point. Other DynamicArrays can be inserted at a given index,
  * and sections of multiple elements can be removed using a start and end index. A selection of 
  * elements can also be specified and extracted as a separate DynamicArray object.
+ * DynamicArrays can be iterated over with a for-each loop, and turned into a Stream that
+ * splits the internal array evenly when it is processed in parallel.
+ * The group 4 bulk operations (map, filter, reduce, sort and so on) run on the common ForkJoinPool
+ * for large arrays and as plain loops over the internal array for small ones.
+ * Searching by value with indexOf, lastIndexOf and contains is a linear scan, unless the hash index is
+ * turned on with setIndexed, in which case they take O(1) expected time after the index is built.
+ * Many positional edits can be recorded with edit and then applied together in one pass with commit.
+ * A pooled DynamicArray takes its internal arrays from the ArrayPool, and gives them back when it grows,
+ * or when it is released, so short lived results can be closed with try-with-resources to be reused.
+ * snapshot returns an unchangeable copy of the DynamicArray in O(1), which only saves the chunks of elements
+ * that are overwritten afterwards, so many snapshots cost memory in proportion to what changed between them.
  * @param <T> the type of the DynamicArray object must be specified when a new instance is declared.
  */
-public class DynamicArray<T> implements DynamicArrayADT<T> {
+public class DynamicArray<T> implements DynamicArrayADT<T>, Iterable<T>, AutoCloseable {
     /**
      * the internal array that holds the elements modified and accessed by the DynamicArray object.
      */
@@ -22,12 +61,118 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
     private int size;
 
     /**
-     * Constructor for the DynamicArray class.
-     * @param size an int that specifies the number of elements the object can store values in.
+     * the strategy used to pick a new capacity when the internal array runs out of room
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * the fraction of the capacity that has to be in use before the internal array is shrunk.
+     * A value of 0 means the internal array never shrinks on its own.
+     */
+    private double shrinkThreshold;
+
+    /**
+     * the default low-water mark, the internal array shrinks when less than a quarter of it is used
+     */
+    public static final double DEFAULT_SHRINK_THRESHOLD = 0.25;
+
+    /**
+     * internal arrays at or below this capacity are never shrunk because the memory saved is not worth the copy
+     */
+    private static final int MIN_SHRINK_CAPACITY = 16;
+
+    /**
+     * the number of elements each fork/join task handles in the group 4 bulk operations.
+     * Arrays with no more elements than this are processed on the calling thread, since splitting them isn't worth it.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * the size of the buffer used when writing the elements out to a channel or to System.out
+     */
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    /**
+     * the index in the internal array where this DynamicArray's elements start.
+     * This is only nonzero for a view created by extract, splitPrefix or splitSuffix in view mode.
+     */
+    private int offset;
+
+    /**
+     * whether the internal array might also be used by a view or by the DynamicArray a view was taken from.
+     * If it is, the internal array is copied before the first write so the other array doesn't see the change.
+     */
+    private boolean shared;
+
+    /**
+     * whether extract, splitPrefix and splitSuffix return views over the internal array instead of copies
+     */
+    private boolean viewMode;
+
+    /**
+     * the number of times elements have been added or removed, which lets iterators notice
+     * when the DynamicArray is changed while they are in use
+     */
+    private int modCount;
+
+    /**
+     * whether indexOf, lastIndexOf and contains use a hash index instead of scanning the elements
+     */
+    private boolean indexed;
+
+    /**
+     * the hash index from each value to the sorted indices where it is stored.
+     * It is null until the first search after indexing is turned on, and is thrown away (set back to null)
+     * whenever a change would shift the indices of many elements, to be rebuilt on the next search.
+     */
+    private HashMap<Object, Positions> index;
+
+    /**
+     * the counters for this DynamicArray's reallocations and copies, created the first time they are needed
+     */
+    private DynamicArrayMetrics metrics;
+
+    /**
+     * whether internal arrays are taken from and given back to the ArrayPool, which the results of the functional methods inherit
+     */
+    private boolean pooled;
+
+    /**
+     * the internal array of a DynamicArray that has been released, which is never written to because its capacity is zero
+     */
+    private static final Object[] RELEASED = new Object[0];
+
+    /**
+     * the number of elements in each chunk saved for snapshots, as a power of two
+     */
+    private static final int SNAPSHOT_CHUNK_SHIFT = 7;
+
+    /**
+     * the chunks saved for snapshots of the current internal array, or null if no snapshot is reading it
+     */
+    private ChunkHistory history;
+
+    /**
+     * Constructor for the DynamicArray class. The internal array doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
      */
     public DynamicArray(int size){
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the DynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the internal array fills up.
+     */
+    public DynamicArray(int size, GrowthPolicy growthPolicy){
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
         this.values = allocate(size);
         this.size = 0; // initialized to zero because no elements have been set yet
+        this.growthPolicy = growthPolicy;
+        this.shrinkThreshold = DEFAULT_SHRINK_THRESHOLD;
     }
 
     /**
@@ -35,12 +180,64 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
      * @param arr the DynamicArray being copied into the new DynamicArray
      */
     public DynamicArray(DynamicArray<T> arr) {
+        this.pooled = arr.pooled;
         this.values = this.allocate(arr.size());
         this.size = arr.size();
+        this.growthPolicy = arr.growthPolicy;
+        this.shrinkThreshold = arr.shrinkThreshold;
+        this.viewMode = arr.viewMode;
+        this.indexed = arr.indexed;
 
-        for(int i = 0; i < arr.size(); i++){
-            this.values[i] = arr.get(i);
-        }
+        this.copy(arr.values, arr.offset, this.values, 0, arr.size());
+    }
+
+    /**
+     * private constructor for a view over part of another DynamicArray's internal array.
+     * No elements are copied, both arrays are marked as shared so that whichever one is written to first
+     * makes its own copy.
+     * @param parent the DynamicArray the view is taken from.
+     * @param startIndex the index in parent where the view begins.
+     * @param length the number of elements in the view.
+     */
+    private DynamicArray(DynamicArray<T> parent, int startIndex, int length) {
+        this.values = parent.values;
+        this.offset = parent.offset + startIndex;
+        this.size = length;
+        this.growthPolicy = parent.growthPolicy;
+        this.shrinkThreshold = parent.shrinkThreshold;
+        this.viewMode = true;
+        this.pooled = parent.pooled;
+        this.shared = true;
+        parent.shared = true;
+    }
+
+    /**
+     * private method to create an empty DynamicArray for the result of a functional method,
+     * which is pooled if this DynamicArray is.
+     * @param capacity the number of elements the result needs room for.
+     * @return the new, empty DynamicArray.
+     */
+    private DynamicArray<T> newResult(int capacity){
+        DynamicArray<T> result = new DynamicArray<T>(0);
+        result.pooled = this.pooled;
+        result.values = result.allocate(capacity);
+        return result;
+    }
+
+    /**
+     * Method for creating a DynamicArray that takes over an array of elements without copying it, so other
+     * implementations can return the results of their functional methods as DynamicArrays after filling
+     * an array with block copies. Nothing else may use the array afterwards.
+     * @param items the array that becomes the internal array.
+     * @param size the number of elements set at the start of items.
+     * @return the new DynamicArray.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> DynamicArray<T> wrap(Object[] items, int size){
+        DynamicArray<T> result = new DynamicArray<T>(0);
+        result.values = (T[]) items;
+        result.size = size;
+        return result;
     }
 
     /**
@@ -51,7 +248,308 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
      */
     @SuppressWarnings("unchecked")
     private T[] allocate(int len){
-        return (T[]) new Object[len];
+        T[] arr = (T[]) (this.pooled ? ArrayPool.take(len) : new Object[len]);
+        if (DynamicArrayMetrics.ENABLED) {
+            this.getMetrics().recordAllocation(arr.length);
+        }
+        return arr;
+    }
+
+    /**
+     * private method to give an internal array that has just been replaced back to the ArrayPool,
+     * if this DynamicArray is pooled and no view could still be reading the array.
+     * @param oldValues the internal array that was replaced.
+     * @param wasShared whether the array was shared with a view.
+     */
+    private void retire(T[] oldValues, boolean wasShared){
+        if (this.history != null) {
+            // snapshots keep reading the old array, which is never written again, so it can't be pooled
+            this.history = null;
+            return;
+        }
+        if (this.pooled && !wasShared && oldValues != RELEASED) {
+            ArrayPool.give(oldValues);
+        }
+    }
+
+    /**
+     * private method that is called before elements of the internal array are overwritten in place,
+     * so that any snapshot still reading those elements gets a copy of their chunks first.
+     * @param from the first index in the internal array being written.
+     * @param to the index just after the last one being written.
+     */
+    private void beforeWrite(int from, int to){
+        if (this.history != null) {
+            this.history.preserve(this.values, from, to);
+        }
+    }
+
+    /**
+     * private method to copy elements with System.arraycopy, counting them in the metrics if they are turned on,
+     * and reporting the copy as a JFR event if it is large.
+     * @param src the array being copied from.
+     * @param srcPos the index in src of the first element.
+     * @param dest the array being copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    private void copy(Object[] src, int srcPos, Object[] dest, int destPos, int len){
+        if (len >= DynamicArrayMetrics.LARGE_OPERATION) {
+            DynamicArrayMetrics.BulkCopyEvent event = new DynamicArrayMetrics.BulkCopyEvent();
+            event.begin();
+            System.arraycopy(src, srcPos, dest, destPos, len);
+            event.setElements(len);
+            event.commit();
+        } else {
+            System.arraycopy(src, srcPos, dest, destPos, len);
+        }
+        if (DynamicArrayMetrics.ENABLED) {
+            this.getMetrics().recordCopy(len);
+        }
+    }
+
+    /**
+     * private method to start timing a reallocation of the internal array, if it is large enough to be reported to JFR.
+     * @param newCapacity the length of the new internal array.
+     * @return the started event, or null if the reallocation is too small to report.
+     */
+    private DynamicArrayMetrics.ResizeEvent beginResize(int newCapacity){
+        if (Math.max(this.values.length, newCapacity) < DynamicArrayMetrics.LARGE_OPERATION) {
+            return null;
+        }
+        DynamicArrayMetrics.ResizeEvent event = new DynamicArrayMetrics.ResizeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * private method to finish recording a reallocation of the internal array, before the new array replaces the old one.
+     * @param event the event returned by beginResize, which may be null.
+     * @param newCapacity the length of the new internal array.
+     * @param copied the number of elements copied into the new internal array.
+     */
+    private void endResize(DynamicArrayMetrics.ResizeEvent event, int newCapacity, int copied){
+        if (event != null) {
+            event.oldCapacity = this.values.length;
+            event.newCapacity = newCapacity;
+            event.elementsCopied = copied;
+            event.commit();
+        }
+        if (DynamicArrayMetrics.ENABLED) {
+            this.getMetrics().recordReallocation();
+            this.getMetrics().recordCopy(copied);
+        }
+    }
+
+    /**
+     * Method for returning the counters of reallocations, copied elements, allocated bytes and peak capacity
+     * for this DynamicArray. The counters stay at zero unless the JVM was started with -Ddynamicarray.metrics=true.
+     * @return the metrics for this DynamicArray.
+     */
+    public DynamicArrayMetrics getMetrics(){
+        if (this.metrics == null) {
+            this.metrics = new DynamicArrayMetrics();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * private method to move the elements into a new internal array with a different capacity.
+     * @param newCapacity the length of the new internal array, which must be at least the size.
+     */
+    private void resize(int newCapacity){
+        DynamicArrayMetrics.ResizeEvent event = this.beginResize(newCapacity);
+        T[] newValues = this.allocate(newCapacity);
+        System.arraycopy(this.values, this.offset, newValues, 0, this.size);
+        this.endResize(event, newCapacity, this.size);
+        this.retire(this.values, this.shared);
+        this.values = newValues;
+        this.offset = 0;
+        this.shared = false; // the new internal array belongs only to this DynamicArray
+    }
+
+    /**
+     * private method that is called before every write. If the internal array is shared with a view,
+     * the elements are copied into a new internal array that only this DynamicArray uses.
+     * @param minCapacity the capacity the new internal array needs, so a write that grows the array only copies once.
+     */
+    private void unshare(int minCapacity){
+        if (this.shared) {
+            this.resize(Math.max(this.size, minCapacity));
+        }
+    }
+
+    // CAPACITY MANAGEMENT //
+
+    /**
+     * Method for returning the number of elements the DynamicArray can hold before the internal array has to grow.
+     * @return the length of the internal array.
+     */
+    public int capacity(){
+        return this.values.length - this.offset;
+    }
+
+    /**
+     * Method to make sure the internal array can hold at least a given number of elements without growing again.
+     * If the capacity is already large enough nothing happens, otherwise the growth policy picks the new capacity,
+     * and it is never smaller than minCapacity.
+     * @param minCapacity the number of elements the DynamicArray should be able to hold.
+     */
+    public void ensureCapacity(int minCapacity){
+        if (minCapacity <= this.values.length - this.offset) {
+            return;
+        }
+        this.resize(this.grownCapacity(minCapacity));
+    }
+
+    /**
+     * private method to ask the growth policy for the next capacity of the internal array.
+     * @param minCapacity the smallest capacity that can hold all of the elements.
+     * @return the new capacity, which is never smaller than minCapacity.
+     */
+    private int grownCapacity(int minCapacity){
+        int newCapacity = this.growthPolicy.grow(this.values.length, minCapacity);
+        if (newCapacity < minCapacity) { // also covers overflow, where the policy result goes negative
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Method for returning the low-water mark used to decide when remove shrinks the internal array.
+     * @return the fraction of the capacity that must be in use to avoid shrinking.
+     */
+    public double getShrinkThreshold(){
+        return this.shrinkThreshold;
+    }
+
+    /**
+     * Method to change the low-water mark used by remove. When fewer than threshold * capacity elements are
+     * stored, the internal array shrinks to twice the size, so a workload that alternates between adding
+     * and removing does not keep reallocating. The threshold must be in the range [0, 0.5],
+     * otherwise it will throw an IllegalArgumentException, because a larger threshold would shrink
+     * the array right back into needing to grow. A threshold of 0 turns shrinking off.
+     * @param threshold the fraction of the capacity that must be in use to avoid shrinking.
+     */
+    public void setShrinkThreshold(double threshold){
+        if (!(threshold >= 0 && threshold <= 0.5)) { // written this way so NaN is rejected too
+            throw new IllegalArgumentException("The shrink threshold must be between 0 and 0.5");
+        }
+        this.shrinkThreshold = threshold;
+    }
+
+    /**
+     * Method for checking whether extract, splitPrefix and splitSuffix return views instead of copies.
+     * @return true if view mode is turned on.
+     */
+    public boolean isViewMode(){
+        return this.viewMode;
+    }
+
+    /**
+     * Method to turn view mode on or off. In view mode, extract, splitPrefix and splitSuffix take O(1) time
+     * and return a DynamicArray that reads the elements straight out of this DynamicArray's internal array.
+     * Neither array sees changes made to the other one, because the first write to either of them
+     * copies the elements first. This is useful when an array is sliced many times but rarely modified.
+     * Views start out in view mode as well.
+     * @param viewMode true to return views, false to return copies.
+     */
+    public void setViewMode(boolean viewMode){
+        this.viewMode = viewMode;
+    }
+
+    /**
+     * Method for checking whether indexOf, lastIndexOf and contains use the hash index.
+     * @return true if the hash index is turned on.
+     */
+    public boolean isIndexed(){
+        return this.indexed;
+    }
+
+    /**
+     * Method to turn the hash index on or off. When it is on, the first search builds a map from each value to the
+     * indices where it is stored, and later searches look the value up instead of scanning.
+     * set and append keep the index up to date, while add and remove in the middle of the array throw it away
+     * to be rebuilt by the next search, since they shift the index of every element after them.
+     * The index takes memory for every element, so it is only worth it when searching far more than shifting.
+     * @param indexed true to use the hash index, false to scan and free the index.
+     */
+    public void setIndexed(boolean indexed){
+        this.indexed = indexed;
+        this.index = null;
+    }
+
+    /**
+     * Method for checking whether internal arrays are taken from the ArrayPool.
+     * @return true if the DynamicArray is pooled.
+     */
+    public boolean isPooled(){
+        return this.pooled;
+    }
+
+    /**
+     * Method to turn pooling on or off. A pooled DynamicArray takes each new internal array from the ArrayPool,
+     * rounded up to a power of two, and gives the old one back when it grows, shrinks or is released.
+     * The results of append, insert, delete, extract, splitPrefix, splitSuffix, filter and sort are pooled as well,
+     * so a pipeline only has to turn pooling on for its first array, and release each result once it's done with it.
+     * @param pooled true to use the ArrayPool, false to allocate every internal array.
+     */
+    public void setPooled(boolean pooled){
+        this.pooled = pooled;
+    }
+
+    /**
+     * private method to shrink the internal array to twice the size once it falls below the low-water mark.
+     */
+    private void shrinkIfSparse(){
+        int capacity = this.values.length;
+        if (capacity > MIN_SHRINK_CAPACITY && this.size < capacity * this.shrinkThreshold) {
+            this.resize(Math.max(this.size * 2, MIN_SHRINK_CAPACITY));
+        }
+    }
+
+    /**
+     * Method to shrink the internal array so its capacity matches the number of elements stored.
+     * This frees the unused space left over from growing.
+     */
+    public void trimToSize(){
+        if (this.values.length - this.offset > this.size) {
+            this.resize(this.size);
+        }
+    }
+
+    /**
+     * Method to remove every element and free the internal array. If the DynamicArray is pooled, the array is given
+     * back to the ArrayPool for the next pooled DynamicArray to reuse, unless a view is still reading it.
+     * The DynamicArray can still be used afterwards, and starts growing again from a capacity of zero.
+     */
+    public void release(){
+        T[] oldValues = this.values;
+        boolean wasShared = this.shared;
+        this.values = this.emptyValues();
+        this.offset = 0;
+        this.size = 0;
+        this.shared = false;
+        this.modCount += 1;
+        this.index = null;
+        this.retire(oldValues, wasShared);
+    }
+
+    /**
+     * Method to release the DynamicArray, so a temporary result can be declared in a try-with-resources statement
+     * and have its internal array given back to the ArrayPool when the statement ends.
+     */
+    public void close(){
+        this.release();
+    }
+
+    /**
+     * private method for returning the zero length internal array used after release.
+     * @return the shared empty array.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] emptyValues(){
+        return (T[]) RELEASED;
     }
     
     // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
@@ -69,10 +567,17 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             throw new IndexOutOfBoundsException("Invalid index");
         }
         if (index == this.size) { // same thing as append(T val)
-            this.size += 1; 
+            this.append(val);
+            return null; // there was no previous value stored at this index
         }
+        this.unshare(this.size);
+        this.beforeWrite(index, index + 1);
         T previousVal = this.values[index];
         this.values[index] = val;
+        if (this.index != null) {
+            this.unindex(previousVal, index);
+            this.indexValue(val, index);
+        }
         return previousVal;
     }
 
@@ -87,7 +592,7 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
         if (index < 0 || index >= this.size){
             throw new IndexOutOfBoundsException("Invalid Index");
         }
-        return this.values[index];
+        return this.values[this.offset + index];
     }
 
     /**
@@ -117,18 +622,26 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             return; 
         }
 
-        T[] newValues = this.allocate(this.size + 1); // new array with an added element
-        int m = 0;
-        for (int i = 0; i <= this.size; i++){
-            if(i == index){
-                newValues[i] = val;
-            } else {
-                newValues[i] = this.values[m];
-                m+=1;
-            }
+        this.unshare(this.size + 1);
+        if (this.size == this.values.length) {
+            // the array has to grow anyway, so leave the gap while copying into the larger array
+            int newCapacity = this.grownCapacity(this.size + 1);
+            DynamicArrayMetrics.ResizeEvent event = this.beginResize(newCapacity);
+            T[] newValues = this.allocate(newCapacity);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index, newValues, index + 1, this.size - index);
+            this.endResize(event, newCapacity, this.size);
+            this.retire(this.values, false); // unshare already made sure the array isn't shared
+            this.values = newValues;
+        } else {
+            // there is spare room, so shift the elements after index one to the right in place
+            this.beforeWrite(index, this.size + 1);
+            this.copy(this.values, index, this.values, index + 1, this.size - index);
         }
+        this.values[index] = val;
         this.size += 1;
-        this.values = newValues;
+        this.modCount += 1;
+        this.index = null; // every element after index moved, so the index has to be rebuilt
     }
 
     /**
@@ -137,15 +650,15 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
      */
     public void append(T val){
         int index = this.size; // append the value onto the end
-        if(index == this.values.length) {
-            T[] newValues = this.allocate(index+1); // array one element larger
-            for (int i = 0; i < index; i++) { // copy over the old elements
-                newValues[i] = this.values[i];
-            }
-            this.values = newValues;
-        }
+        this.unshare(index + 1); // a view can't write past its end without overwriting the parent's elements
+        this.ensureCapacity(index + 1); // grows by the growth policy, not by one element, so appends are amortized O(1)
+        this.beforeWrite(index, index + 1);
         this.values[index] = val;
         this.size += 1;
+        this.modCount += 1;
+        if (this.index != null) {
+            this.indexValue(val, index);
+        }
     }
 
     /**
@@ -160,96 +673,388 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
         if (index < 0 || index >= this.size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
-        T[] newValues = this.allocate(this.size-1);
+        this.unshare(this.size);
         T removedElem = this.values[index];  // store the element being removed so it can be returned
+        this.beforeWrite(index, this.size);
 
-        int m = 0;
-        for (int i = 0; i < this.size; i++) {
-            if (i == index) {
-                continue; // do nothing so the counter increments and skips the removed element
-            } else {
-                newValues[m] = this.values[i];
-                m+=1;
-            }
-        }
-        this.values = newValues; // array without the removed elem is now the storage for this object
+        // shift the elements after index one to the left in place, over the removed element
+        this.copy(this.values, index + 1, this.values, index, this.size - index - 1);
         this.size -= 1;
+        this.modCount += 1;
+        this.values[this.size] = null; // clear the leftover slot so the element can be garbage collected
+        if (this.index != null && index == this.size) {
+            this.unindex(removedElem, index); // removing the last element doesn't move any others
+        } else {
+            this.index = null;
+        }
+        this.shrinkIfSparse();
         return removedElem;
     }
 
 
-    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+    // BATCH EDITS //
 
     /**
-     * Method to concatenate another DynamicArray onto the end of the current DynamicArray object,
-     * where the result is returned as a new DynamicArray object.
-     * @param newArray The DynamicArray being concatenated onto the end of this current object
-     * @return a new DynamicArray which is the result of concatenating a new DynamicArray onto the end of this current DynamicArray.
+     * Method to start a batch of edits, which are recorded and then applied all at once by Batch.commit.
+     * Every index in the batch refers to the DynamicArray as it is now, before any of the batch's edits,
+     * so a batch of k edits costs one O(n + k log k) pass instead of k separate O(n) shifts.
+     * @return a new, empty Batch for this DynamicArray.
      */
-    public DynamicArray<T> append(DynamicArrayADT<T> newArray){
-        // you can return your specific class, but you have to be able to input anything implementing the interface 
-        // which is why the argument is DynamicArrayADT<T> and not DynamicArray<T>
-
-        // appending a DynamicArray is the same thing as inserting a DynamicArray 
-        // beyond the last element of the current DynamicArray 
-        DynamicArray<T> resultArray = this.insert(this.size, newArray);
-
-        return resultArray; // result is retured without modifying either input
+    public Batch edit(){
+        return new Batch();
     }
 
     /**
-     * Method for inserting multiple elements of a new DynamicArray into this current DynamicArray at
-     * a specified index. The result is returned as a new DynamicArray object. 
-     * If the index is outside of the valid range, from zero until the size of the current DynamicArray, it
-     * will throw an IndexOutOfBoundsException.
-     * @param index the index where the new elements will be inserted. The valid range is from zero until the size of the current DynamicArray.
-     * @param newArray the DynamicArray being inserted into this current DynamicArray.
-     * @return a new object of type DynamicArray which is the current DynamicArray with the new 
-     * elements inserted.
+     * A batch of inserts, removes, sets and range deletes that are applied to the DynamicArray in a single pass.
+     * Every index refers to the elements as they were when edit was called, and the edits are resolved this way:
+     * <ul>
+     * <li>insert(i, val) puts val just before original element i, or at the end if i is the size.
+     * Several inserts at the same index keep the order they were recorded in.</li>
+     * <li>remove(i) and delete(start, end) remove original elements, and overlapping removals are allowed.</li>
+     * <li>set(i, val) replaces original element i. If it is set more than once the last value wins,
+     * and if it is also removed the removal wins.</li>
+     * </ul>
+     * If the DynamicArray has elements added or removed before commit is called, commit throws a
+     * ConcurrentModificationException, since the recorded indices would no longer line up.
      */
-    public DynamicArray<T> insert(int index, DynamicArrayADT<T> newArray){
-        if (index < 0 || index > this.size) {
-            throw new IndexOutOfBoundsException("Invalid index");
+    public class Batch {
+        /**
+         * the edits recorded so far
+         */
+        private final ArrayList<Change> changes = new ArrayList<Change>();
+
+        /**
+         * the size of the DynamicArray when the batch was started, which every index is checked against
+         */
+        private final int originalSize = DynamicArray.this.size;
+
+        /**
+         * the modCount the DynamicArray should have when the batch is committed
+         */
+        private final int expectedModCount = DynamicArray.this.modCount;
+
+        /**
+         * whether commit has already been called
+         */
+        private boolean committed;
+
+        /**
+         * private constructor for an empty Batch, which is created by edit.
+         */
+        private Batch() {
         }
 
-        // contains space for the elements of this current DynamicArray and the elements of the inserted DynamicArray 
-        DynamicArray<T> resultArr = new DynamicArray<T>(this.size + newArray.size());
-
-        for (int i = 0; i <= this.size; i++) {
-            if (i < index) {                     // items before the inserted segment
-                T item = this.values[i];
-                resultArr.append(item);
-            } else if (i == index) {
-                for (int j = 0; j < newArray.size(); j++) { // items within the inserted segment 
-                    T item = newArray.get(j);
-                    resultArr.append(item);
-                }
-            } else if (i > index) {                 // items after the insertion
-                T item = this.values[i-1]; // subtract one to compensate for skipping adding an original value last loop
-                resultArr.append(item);
+        /**
+         * Method to record inserting an element just before the original element at index.
+         * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+         * @param index the original index the new element is inserted before.
+         * @param val the value being inserted.
+         * @return this Batch, so edits can be chained.
+         */
+        public Batch insert(int index, T val) {
+            if (index < 0 || index > this.originalSize) {
+                throw new IndexOutOfBoundsException("Invalid Index");
             }
+            return this.record(Change.INSERT, index, index, val);
         }
-        return resultArr;
-    }
 
-    /**
-     * Method for returning the elements from a specified index and after as a new DynamicArray object.
-     * If the specified index is beyond size of the DynamicArray, it will throw a IndexOutOfBounds exception.
-     * @param index the index where the split begins, and this index is included in the new DynamicArray. The index must be between [0, this.size).
-     * @return A new DynamicArray object of all the elements after and including the specified index.
-     */
-    public DynamicArray<T> splitSuffix(int index){
-        if (index < 0 || index > this.size) {
-            throw new IndexOutOfBoundsException("Invalid Index");
+        /**
+         * Method to record removing the original element at index.
+         * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+         * @param index the original index of the element being removed.
+         * @return this Batch, so edits can be chained.
+         */
+        public Batch remove(int index) {
+            if (index < 0 || index >= this.originalSize) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            return this.record(Change.REMOVE, index, index + 1, null);
         }
 
-        DynamicArray<T> suffixArray = this.extract(index, this.size); 
-        // beginning index included in extract, ending index not included, so it's one beyond the indicies of the array
+        /**
+         * Method to record replacing the original element at index.
+         * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+         * @param index the original index of the element being set.
+         * @param val the value it is set to.
+         * @return this Batch, so edits can be chained.
+         */
+        public Batch set(int index, T val) {
+            if (index < 0 || index >= this.originalSize) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            return this.record(Change.SET, index, index + 1, val);
+        }
 
-        return suffixArray; 
-    }
+        /**
+         * Method to record removing the original elements from startIndex up until just before endIndex.
+         * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+         * it will throw an IndexOutOfBoundsException.
+         * @param startIndex the original index of the first element removed.
+         * @param endIndex the original index just after the last element removed.
+         * @return this Batch, so edits can be chained.
+         */
+        public Batch delete(int startIndex, int endIndex) {
+            if (startIndex < 0 || startIndex > this.originalSize) {
+                throw new IndexOutOfBoundsException("Invalid starting index");
+            }
+            if (endIndex < 0 || endIndex > this.originalSize) {
+                throw new IndexOutOfBoundsException("Invalid ending index");
+            }
+            if (endIndex < startIndex) {
+                throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+            }
+            if (endIndex == startIndex) {
+                return this; // nothing is removed
+            }
+            return this.record(Change.REMOVE, startIndex, endIndex, null);
+        }
 
-    /**
+        /**
+         * Method for returning the number of edits recorded so far.
+         * @return the number of edits.
+         */
+        public int size() {
+            return this.changes.size();
+        }
+
+        /**
+         * private method to record an edit, as long as the batch hasn't been committed yet.
+         * @param kind the kind of edit, one of the constants in Change.
+         * @param start the first original index the edit applies to.
+         * @param end the original index just after the last one the edit applies to.
+         * @param val the value being inserted or set, or null for a removal.
+         * @return this Batch.
+         */
+        private Batch record(int kind, int start, int end, T val) {
+            if (this.committed) {
+                throw new IllegalStateException("The batch has already been committed");
+            }
+            this.changes.add(new Change(kind, start, end, val));
+            return this;
+        }
+
+        /**
+         * Method to apply every recorded edit to the DynamicArray. The edits are sorted by original index,
+         * which is O(k log k), and then the original elements are copied into a new internal array in blocks
+         * between the edits, which is O(n + k). A Batch can only be committed once.
+         */
+        public void commit() {
+            if (this.committed) {
+                throw new IllegalStateException("The batch has already been committed");
+            }
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            this.committed = true;
+            if (this.changes.isEmpty()) {
+                return;
+            }
+            Change[] sorted = this.changes.toArray(new Change[0]);
+            // a stable sort, so inserts and sets at the same index stay in the order they were recorded
+            Arrays.sort(sorted, Comparator.comparingInt((Change c) -> c.start).thenComparingInt(c -> c.kind));
+            DynamicArray.this.applyChanges(sorted);
+        }
+    }
+
+    /**
+     * A single edit recorded by a Batch.
+     */
+    private static final class Change {
+        /**
+         * an insert, which is applied first among edits at the same index so it goes before the original element
+         */
+        private static final int INSERT = 0;
+
+        /**
+         * a remove or range delete, which is applied before a set at the same index so the removal wins
+         */
+        private static final int REMOVE = 1;
+
+        /**
+         * a set
+         */
+        private static final int SET = 2;
+
+        /**
+         * the kind of edit
+         */
+        private final int kind;
+
+        /**
+         * the first original index the edit applies to
+         */
+        private final int start;
+
+        /**
+         * the original index just after the last one the edit applies to
+         */
+        private final int end;
+
+        /**
+         * the value being inserted or set
+         */
+        private final Object val;
+
+        /**
+         * Constructor for a Change.
+         * @param kind the kind of edit.
+         * @param start the first original index the edit applies to.
+         * @param end the original index just after the last one the edit applies to.
+         * @param val the value being inserted or set.
+         */
+        private Change(int kind, int start, int end, Object val) {
+            this.kind = kind;
+            this.start = start;
+            this.end = end;
+            this.val = val;
+        }
+    }
+
+    /**
+     * private method to apply a batch of edits, sorted by original index, in one pass over the internal array.
+     * The kept original elements are block copied into the new internal array between the edits.
+     * @param sorted the edits, sorted by start and then by kind.
+     */
+    @SuppressWarnings("unchecked")
+    private void applyChanges(Change[] sorted){
+        // first pass over the edits to work out the new size, merging the removed ranges as they overlap
+        int removed = 0;
+        int inserted = 0;
+        int removedUntil = 0;
+        for (Change change : sorted) {
+            if (change.kind == Change.INSERT) {
+                inserted += 1;
+            } else if (change.kind == Change.REMOVE && change.end > removedUntil) {
+                removed += change.end - Math.max(change.start, removedUntil);
+                removedUntil = change.end;
+            }
+        }
+        int newSize = this.size - removed + inserted;
+        int newCapacity = newSize > this.capacity() ? this.grownCapacity(newSize) : Math.max(newSize, this.capacity());
+
+        DynamicArrayMetrics.ResizeEvent event = this.beginResize(newCapacity);
+        T[] newValues = this.allocate(newCapacity);
+        int out = 0;          // the next free slot in newValues
+        int pos = 0;          // the next original element that hasn't been copied or skipped
+        removedUntil = 0;     // original elements before this index, from pos on, are removed
+        int lastSet = -1;     // the original index of the last element written by a set
+        for (Change change : sorted) {
+            out = this.copyKept(newValues, out, pos, change.start, removedUntil);
+            pos = Math.max(pos, change.start);
+            if (change.kind == Change.INSERT) {
+                newValues[out] = (T) change.val;
+                out += 1;
+            } else if (change.kind == Change.REMOVE) {
+                removedUntil = Math.max(removedUntil, change.end);
+            } else if (change.start >= removedUntil) {
+                if (lastSet == change.start) {
+                    newValues[out - 1] = (T) change.val; // set again, so the later value wins
+                } else {
+                    newValues[out] = (T) change.val;
+                    out += 1;
+                    lastSet = change.start;
+                    pos = change.start + 1; // the original element was replaced, so it isn't copied
+                }
+            }
+        }
+        this.copyKept(newValues, out, pos, this.size, removedUntil);
+        this.endResize(event, newCapacity, this.size - removed);
+
+        this.retire(this.values, this.shared);
+        this.values = newValues;
+        this.offset = 0;
+        this.shared = false;
+        this.size = newSize;
+        this.modCount += 1;
+        this.index = null; // elements moved, so the index has to be rebuilt
+        this.shrinkIfSparse();
+    }
+
+    /**
+     * private method to copy the original elements in [from, to) that haven't been removed into a new internal array.
+     * @param newValues the new internal array.
+     * @param out the index in newValues where the first kept element goes.
+     * @param from the first original index to copy, if it hasn't been removed.
+     * @param to the original index just after the last one to copy.
+     * @param removedUntil original elements before this index are removed.
+     * @return the index in newValues after the last element copied.
+     */
+    private int copyKept(T[] newValues, int out, int from, int to, int removedUntil){
+        int start = Math.max(from, removedUntil);
+        if (start >= to) {
+            return out;
+        }
+        this.copy(this.values, this.offset + start, newValues, out, to - start);
+        return out + to - start;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArray onto the end of the current DynamicArray object,
+     * where the result is returned as a new DynamicArray object.
+     * @param newArray The DynamicArray being concatenated onto the end of this current object
+     * @return a new DynamicArray which is the result of concatenating a new DynamicArray onto the end of this current DynamicArray.
+     */
+    public DynamicArray<T> append(DynamicArrayADT<T> newArray){
+        // you can return your specific class, but you have to be able to input anything implementing the interface 
+        // which is why the argument is DynamicArrayADT<T> and not DynamicArray<T>
+
+        // appending a DynamicArray is the same thing as inserting a DynamicArray 
+        // beyond the last element of the current DynamicArray 
+        DynamicArray<T> resultArray = this.insert(this.size, newArray);
+
+        return resultArray; // result is retured without modifying either input
+    }
+
+    /**
+     * Method for inserting multiple elements of a new DynamicArray into this current DynamicArray at
+     * a specified index. The result is returned as a new DynamicArray object. 
+     * If the index is outside of the valid range, from zero until the size of the current DynamicArray, it
+     * will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted. The valid range is from zero until the size of the current DynamicArray.
+     * @param newArray the DynamicArray being inserted into this current DynamicArray.
+     * @return a new object of type DynamicArray which is the current DynamicArray with the new 
+     * elements inserted.
+     */
+    public DynamicArray<T> insert(int index, DynamicArrayADT<T> newArray){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+
+        // contains space for the elements of this current DynamicArray and the elements of the inserted DynamicArray 
+        int insertedVals = newArray.size();
+        DynamicArray<T> resultArr = this.newResult(this.size + insertedVals);
+
+        // each section is moved with one block copy instead of one append per element
+        this.copy(this.values, this.offset, resultArr.values, 0, index); // items before the inserted segment
+        newArray.copyInto(0, resultArr.values, index, insertedVals);      // items within the inserted segment
+        this.copy(this.values, this.offset + index, resultArr.values, index + insertedVals, this.size - index); // items after
+        if (DynamicArrayMetrics.ENABLED) {
+            this.getMetrics().recordCopy(insertedVals);
+        }
+        resultArr.size = this.size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new DynamicArray object.
+     * If the specified index is beyond size of the DynamicArray, it will throw a IndexOutOfBounds exception.
+     * @param index the index where the split begins, and this index is included in the new DynamicArray. The index must be between [0, this.size).
+     * @return A new DynamicArray object of all the elements after and including the specified index.
+     */
+    public DynamicArray<T> splitSuffix(int index){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+
+        DynamicArray<T> suffixArray = this.extract(index, this.size); 
+        // beginning index included in extract, ending index not included, so it's one beyond the indicies of the array
+
+        return suffixArray; 
+    }
+
+    /**
      * Method for separating out the elements before, but not including, a specified index,
      * and returning those elements as a new DynamicArray.
      * It will throw an IndexOutOfBoundsException if the index is greater than the size of the array. Range is from (0, size].
@@ -292,19 +1097,12 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
             return result; 
         }
 
-        DynamicArray<T> resultArr = new DynamicArray<T>(numVals - (endIndex-startIndex));
+        DynamicArray<T> resultArr = this.newResult(numVals - (endIndex-startIndex));
 
-        for (int i = 0; i < numVals; i++) {
-            if (i < startIndex) {
-                T item = this.values[i];
-                resultArr.append(item);
-            } else if (i >= endIndex) {
-                T item = this.values[i];
-                resultArr.append(item);
-            } else {
-                continue; // do nothing to skip elements being removed
-            }
-        }
+        // copy the elements on either side of the removed section, skipping the elements being removed
+        this.copy(this.values, this.offset, resultArr.values, 0, startIndex);
+        this.copy(this.values, this.offset + endIndex, resultArr.values, startIndex, numVals - endIndex);
+        resultArr.size = numVals - (endIndex - startIndex);
         return resultArr;
     }
 
@@ -331,47 +1129,1175 @@ public class DynamicArray<T> implements DynamicArrayADT<T> {
         if (endIndex < startIndex) {
             throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
         }
+        if (this.viewMode) {
+            return new DynamicArray<T>(this, startIndex, endIndex - startIndex); // no elements are copied
+        }
 
-        DynamicArray<T> extractArr = new DynamicArray<T>(endIndex-startIndex);
+        DynamicArray<T> extractArr = this.newResult(endIndex-startIndex);
 
-        for (int i = 0; i < this.size; i++) {
-            if (i < startIndex) {
-                continue; // do nothing to the elements before the clipping
-            } else if (i >= endIndex) {
-                continue; // do nothing to the elements after the clipping
-            } else { // items contained within the range of [startIndex, endIndex)
-                T item = this.values[i];
-                extractArr.append(item);
-            }
-        }
+        // items contained within the range of [startIndex, endIndex), copied as one block
+        this.copy(this.values, this.offset + startIndex, extractArr.values, 0, endIndex - startIndex);
+        extractArr.size = endIndex - startIndex;
         return extractArr; 
     }
 
+    /**
+     * Method to copy a range of elements into an array with a single block copy.
+     * If the range is outside of this DynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len){
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        this.copy(this.values, this.offset + srcPos, dest, destPos, len);
+    }
+
     /**
      * Method to convert the DynamicArray into a String representation of the object.
      * @return a String representation of the DynamicArray object
      */
     public String toString(){
-        String result = "[";
-        for(int i = 0; i < this.size; i++){
-            String elem = this.values[i].toString();
-            result = result.concat(elem);
-            result = result.concat(", ");
+        return this.toString(this.size);
+    }
+
+    /**
+     * Method to convert the first elements of the DynamicArray into a String, for a preview of a large array.
+     * If there are more than limit elements the rest are replaced with "...".
+     * If the limit is negative, it will throw an IllegalArgumentException.
+     * @param limit the largest number of elements to include.
+     * @return a String representation of at most limit elements of the DynamicArray.
+     */
+    public String toString(int limit){
+        StringBuilder result = new StringBuilder();
+        try {
+            this.writeTo(result, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // a StringBuilder never throws, this is only here for the compiler
+        }
+        return result.toString();
+    }
+
+    /**
+     * Method to write the same text as toString to an Appendable, one element at a time,
+     * so the whole array never has to be turned into a single String.
+     * @param out where the text is written.
+     * @throws IOException if out throws one.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        this.writeTo(out, this.size);
+    }
+
+    /**
+     * Method to write the same text as toString(limit) to an Appendable, one element at a time.
+     * If the limit is negative, it will throw an IllegalArgumentException.
+     * @param out where the text is written.
+     * @param limit the largest number of elements to write.
+     * @throws IOException if out throws one.
+     */
+    public void writeTo(Appendable out, int limit) throws IOException {
+        this.writeElements(out, limit, "[", ", ", "]");
+    }
+
+    /**
+     * Method to write the same text as toString to a channel, encoded with the given charset.
+     * The text is encoded through one fixed-size buffer, so the memory used doesn't depend on the number of elements.
+     * Characters the charset can't encode are replaced. The channel is not closed.
+     * @param channel where the encoded text is written.
+     * @param charset the charset used to encode the text.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void writeTo(WritableByteChannel channel, Charset charset) throws IOException {
+        this.writeTo(channel, charset, this.size);
+    }
+
+    /**
+     * Method to write the same text as toString(limit) to a channel, encoded with the given charset.
+     * If the limit is negative, it will throw an IllegalArgumentException.
+     * @param channel where the encoded text is written.
+     * @param charset the charset used to encode the text.
+     * @param limit the largest number of elements to write.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void writeTo(WritableByteChannel channel, Charset charset, int limit) throws IOException {
+        Writer writer = Channels.newWriter(channel, charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE), WRITE_BUFFER_SIZE);
+        this.writeTo(writer, limit);
+        writer.flush(); // not closed, since that would close the channel
+    }
+
+    /**
+     * Method to print out the elements in a DynamicArray object, one per line.
+     */
+    public void print(){
+        this.print(this.size);
+    }
+
+    /**
+     * Method to print out the first elements in a DynamicArray object, one per line.
+     * The lines are collected in a buffer and written to System.out in large blocks instead of one println per element.
+     * If there are more than limit elements, the last line is "...".
+     * If the limit is negative, it will throw an IllegalArgumentException.
+     * @param limit the largest number of elements to print.
+     */
+    public void print(int limit){
+        String newline = System.lineSeparator();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()), WRITE_BUFFER_SIZE);
+        try {
+            this.writeElements(writer, limit, "", newline, this.size > 0 ? newline : "");
+            writer.flush(); // not closed, since that would close System.out
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * private method to write the first elements of the DynamicArray with a separator between them.
+     * If elements are left out because of the limit, "..." is written in place of them.
+     * If the limit is negative, it will throw an IllegalArgumentException.
+     * @param out where the text is written.
+     * @param limit the largest number of elements to write.
+     * @param open the text written before the first element.
+     * @param separator the text written between elements.
+     * @param close the text written after the last element.
+     * @throws IOException if out throws one.
+     */
+    private void writeElements(Appendable out, int limit, String open, String separator, String close) throws IOException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit cannot be negative");
+        }
+        int count = Math.min(limit, this.size);
+        out.append(open);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.append(separator);
+            }
+            out.append(String.valueOf(this.values[this.offset + i]));
+        }
+        if (count < this.size) {
+            if (count > 0) {
+                out.append(separator);
+            }
+            out.append("...");
+        }
+        out.append(close);
+    }
+
+    // SEARCHING //
+
+    /**
+     * Method for finding the first index where a value is stored, comparing elements with equals.
+     * This uses the hash index if it is turned on, and scans the internal array otherwise.
+     * @param val the value being searched for, which may be null.
+     * @return the lowest index holding an element equal to val, or -1 if there isn't one.
+     */
+    public int indexOf(Object val){
+        if (this.indexed) {
+            Positions positions = this.index().get(val);
+            return positions == null ? -1 : positions.first();
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (Objects.equals(this.values[this.offset + i], val)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for finding the last index where a value is stored, comparing elements with equals.
+     * This uses the hash index if it is turned on, and scans the internal array otherwise.
+     * @param val the value being searched for, which may be null.
+     * @return the highest index holding an element equal to val, or -1 if there isn't one.
+     */
+    public int lastIndexOf(Object val){
+        if (this.indexed) {
+            Positions positions = this.index().get(val);
+            return positions == null ? -1 : positions.last();
+        }
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (Objects.equals(this.values[this.offset + i], val)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for checking whether a value is stored anywhere in the DynamicArray.
+     * @param val the value being searched for, which may be null.
+     * @return true if an element is equal to val.
+     */
+    public boolean contains(Object val){
+        return this.indexOf(val) >= 0;
+    }
+
+    /**
+     * private method for returning the hash index, building it first if it has been thrown away.
+     * @return the map from each value to the indices where it is stored.
+     */
+    private HashMap<Object, Positions> index(){
+        if (this.index == null) {
+            this.index = new HashMap<Object, Positions>();
+            for (int i = 0; i < this.size; i++) {
+                this.indexValue(this.values[this.offset + i], i);
+            }
+        }
+        return this.index;
+    }
+
+    /**
+     * private method to record in the hash index that a value is stored at an index.
+     * @param val the value.
+     * @param position the index where it is stored.
+     */
+    private void indexValue(T val, int position){
+        this.index.computeIfAbsent(val, key -> new Positions()).add(position);
+    }
+
+    /**
+     * private method to remove the record of a value being stored at an index from the hash index.
+     * @param val the value.
+     * @param position the index where it was stored.
+     */
+    private void unindex(T val, int position){
+        Positions positions = this.index.get(val);
+        positions.remove(position);
+        if (positions.size == 0) {
+            this.index.remove(val);
+        }
+    }
+
+    /**
+     * The indices where one value is stored, kept in increasing order. Most values are stored at only a few
+     * indices, and append always adds the largest one, so a sorted array is cheaper than a tree.
+     */
+    private static final class Positions {
+        /**
+         * the indices, only the first size are used
+         */
+        private int[] items = new int[2];
+
+        /**
+         * the number of indices stored
+         */
+        private int size;
+
+        /**
+         * Method to add an index, keeping the indices sorted.
+         * @param position the index being added.
+         */
+        private void add(int position) {
+            if (this.size == this.items.length) {
+                this.items = Arrays.copyOf(this.items, this.size * 2);
+            }
+            int insertAt = this.size;
+            if (this.size > 0 && this.items[this.size - 1] > position) {
+                insertAt = -(Arrays.binarySearch(this.items, 0, this.size, position) + 1);
+                System.arraycopy(this.items, insertAt, this.items, insertAt + 1, this.size - insertAt);
+            }
+            this.items[insertAt] = position;
+            this.size += 1;
+        }
+
+        /**
+         * Method to remove an index.
+         * @param position the index being removed, which must be stored.
+         */
+        private void remove(int position) {
+            int at = Arrays.binarySearch(this.items, 0, this.size, position);
+            System.arraycopy(this.items, at + 1, this.items, at, this.size - at - 1);
+            this.size -= 1;
+        }
+
+        /**
+         * Method for returning the smallest index.
+         * @return the first index.
+         */
+        private int first() {
+            return this.items[0];
         }
-        if (this.size > 0){
-            result = result.substring(0, result.length()-2); // get rid of the last whitespace and comma
+
+        /**
+         * Method for returning the largest index.
+         * @return the last index.
+         */
+        private int last() {
+            return this.items[this.size - 1];
+        }
+    }
+
+    // GROUP 4 METHODS : PARALLEL BULK OPERATIONS //
+
+    /**
+     * Method to apply a function to every element, where the results are returned as a new DynamicArray in the same order.
+     * The function is applied in parallel for large arrays, so it should not depend on the order it is called in.
+     * @param mapper the function applied to each element.
+     * @param <R> the type of the elements in the resulting DynamicArray.
+     * @return a new DynamicArray where each element is the result of applying mapper to the element at the same index.
+     */
+    public <R> DynamicArray<R> map(Function<? super T, ? extends R> mapper){
+        T[] items = this.values;
+        int start = this.offset;
+        DynamicArray<R> resultArr = new DynamicArray<R>(this.size);
+        R[] results = resultArr.values;
+        this.forEachChunk((lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                results[i] = mapper.apply(items[start + i]);
+            }
+        });
+        resultArr.size = this.size;
+        return resultArr;
+    }
+
+    /**
+     * Method to keep the elements that match a condition, where the result is returned as a new DynamicArray
+     * with the matching elements in their original order.
+     * For large arrays the condition is tested in parallel, then each chunk copies its matches into place.
+     * @param predicate the condition an element has to meet to be kept.
+     * @return a new DynamicArray of the elements for which predicate returned true.
+     */
+    public DynamicArray<T> filter(Predicate<? super T> predicate){
+        T[] items = this.values;
+        int start = this.offset;
+        boolean[] keep = new boolean[this.size];
+        int[] counts = new int[chunkCount(this.size)];
+        this.forEachChunk((lo, hi) -> {
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                keep[i] = predicate.test(items[start + i]);
+                count += keep[i] ? 1 : 0;
+            }
+            counts[lo / PARALLEL_THRESHOLD] = count;
+        });
+
+        // turn the count for each chunk into the index where that chunk's matches start
+        int total = 0;
+        for (int c = 0; c < counts.length; c++) {
+            int count = counts[c];
+            counts[c] = total;
+            total += count;
+        }
+
+        DynamicArray<T> resultArr = this.newResult(total);
+        T[] results = resultArr.values;
+        this.forEachChunk((lo, hi) -> {
+            int dest = counts[lo / PARALLEL_THRESHOLD];
+            for (int i = lo; i < hi; i++) {
+                if (keep[i]) {
+                    results[dest] = items[start + i];
+                    dest += 1;
+                }
+            }
+        });
+        resultArr.size = total;
+        return resultArr;
+    }
+
+    /**
+     * Method to combine all of the elements into one value.
+     * For large arrays each chunk is combined in parallel and then the results for each chunk are combined in order,
+     * so the operator has to be associative and identity has to leave any value unchanged when combined with it.
+     * @param identity the starting value, which is also the result for an empty DynamicArray.
+     * @param operator the function used to combine two values.
+     * @return the result of combining every element with operator.
+     */
+    public T reduce(T identity, BinaryOperator<T> operator){
+        T[] items = this.values;
+        int start = this.offset;
+        Object[] partials = new Object[chunkCount(this.size)];
+        this.forEachChunk((lo, hi) -> {
+            T partial = identity;
+            for (int i = lo; i < hi; i++) {
+                partial = operator.apply(partial, items[start + i]);
+            }
+            partials[lo / PARALLEL_THRESHOLD] = partial;
+        });
+
+        T result = identity;
+        for (int c = 0; c < partials.length; c++) {
+            @SuppressWarnings("unchecked")
+            T partial = (T) partials[c];
+            result = operator.apply(result, partial);
         }
-        result = result.concat("]");
         return result;
     }
 
     /**
-     * Method to print out the elements in a DynamicArray object.
+     * Method to perform an action on every element, in parallel for large arrays.
+     * Unlike forEach, the elements are not visited in order, and the action may be run on several threads at once.
+     * @param action the action performed on each element.
      */
-    public void print(){
-        int numVals = this.size();
-        for (int i = 0; i < numVals; i++) {
-            System.out.println(values[i]);
+    public void forEachParallel(Consumer<? super T> action){
+        T[] items = this.values;
+        int start = this.offset;
+        this.forEachChunk((lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(items[start + i]);
+            }
+        });
+    }
+
+    /**
+     * Method to replace every element with the result of applying a function to it.
+     * Unlike map this modifies the current DynamicArray. The function is applied in parallel for large arrays.
+     * @param operator the function applied to each element.
+     */
+    public void replaceAll(UnaryOperator<T> operator){
+        this.unshare(this.size);
+        this.beforeWrite(0, this.size);
+        this.index = null;
+        T[] items = this.values;
+        this.forEachChunk((lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                items[i] = operator.apply(items[i]);
+            }
+        });
+    }
+
+    /**
+     * Method to sort the elements, where the result is returned as a new DynamicArray and the current one is not modified.
+     * The sort is stable. Large arrays are sorted with a parallel merge sort on the common ForkJoinPool.
+     * @param comparator the ordering of the elements, or null to use the elements' natural ordering.
+     * @return a new DynamicArray holding the same elements in sorted order.
+     */
+    public DynamicArray<T> sort(Comparator<? super T> comparator){
+        DynamicArray<T> resultArr = new DynamicArray<T>(this);
+        resultArr.viewMode = false;
+        if (comparator == null) {
+            Arrays.parallelSort((Object[]) resultArr.values, 0, resultArr.size, naturalOrder());
+        } else {
+            Arrays.parallelSort(resultArr.values, 0, resultArr.size, comparator);
+        }
+        return resultArr;
+    }
+
+    /**
+     * private method for returning a comparator that uses the elements' natural ordering.
+     * The elements aren't known to be Comparable, so a ClassCastException is thrown when sorting if they aren't.
+     * @return a comparator that calls compareTo.
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> naturalOrder(){
+        return (a, b) -> ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * private method to run an action over [0, size) in chunks of PARALLEL_THRESHOLD elements.
+     * Each chunk starts at a multiple of PARALLEL_THRESHOLD, so lo / PARALLEL_THRESHOLD is the chunk's number.
+     * If there is only one chunk it is run on the calling thread, otherwise the chunks are run on the common ForkJoinPool.
+     * @param action the action run on each chunk.
+     */
+    private void forEachChunk(RangeAction action){
+        int chunks = chunkCount(this.size);
+        if (chunks == 1) {
+            action.run(0, this.size);
+        } else if (chunks > 1) {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(action, 0, chunks, this.size));
+        }
+    }
+
+    /**
+     * private method for returning the number of chunks an array with a given number of elements is split into.
+     * @param numVals the number of elements.
+     * @return the number of chunks of PARALLEL_THRESHOLD elements, rounded up.
+     */
+    private static int chunkCount(int numVals){
+        return (int) (((long) numVals + PARALLEL_THRESHOLD - 1) / PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * An action run on the indices from lo up until just before hi.
+     */
+    private interface RangeAction {
+        /**
+         * Method to run the action on a range of indices.
+         * @param lo the first index.
+         * @param hi the index just after the last one.
+         */
+        void run(int lo, int hi);
+    }
+
+    /**
+     * Fork/join task that runs a RangeAction on a range of chunks, by splitting the range in half until it is one chunk.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        /**
+         * the version of this class for serialization, which RecursiveAction needs even though tasks are never serialized
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * the action run on each chunk
+         */
+        private final RangeAction action;
+
+        /**
+         * the first chunk handled by this task
+         */
+        private final int lo;
+
+        /**
+         * the chunk just after the last one handled by this task
+         */
+        private final int hi;
+
+        /**
+         * the number of elements, which ends the last chunk early if it is not full
+         */
+        private final int numVals;
+
+        /**
+         * Constructor for a task covering the chunks from lo up until just before hi.
+         * @param action the action run on each chunk.
+         * @param lo the first chunk.
+         * @param hi the chunk just after the last one.
+         * @param numVals the number of elements in the DynamicArray.
+         */
+        private ChunkTask(RangeAction action, int lo, int hi, int numVals) {
+            this.action = action;
+            this.lo = lo;
+            this.hi = hi;
+            this.numVals = numVals;
+        }
+
+        /**
+         * Method to run the action on a single chunk, or split the chunks between two subtasks.
+         */
+        protected void compute() {
+            if (this.hi - this.lo == 1) {
+                int start = this.lo * PARALLEL_THRESHOLD;
+                this.action.run(start, Math.min(this.numVals, start + PARALLEL_THRESHOLD));
+                return;
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            invokeAll(new ChunkTask(this.action, this.lo, mid, this.numVals),
+                      new ChunkTask(this.action, mid, this.hi, this.numVals));
+        }
+    }
+
+    // SNAPSHOTS //
+
+    /**
+     * Method to take a snapshot of the DynamicArray in O(1). The snapshot is an unchangeable DynamicArrayADT
+     * that keeps the elements as they are now, no matter how this DynamicArray is changed afterwards.
+     * Nothing is copied when the snapshot is taken. Instead, the snapshot reads this DynamicArray's internal array,
+     * and the first time a chunk of 128 elements is overwritten after a snapshot, the old chunk is saved for it.
+     * Every snapshot taken since that chunk last changed shares the one saved copy, and once this DynamicArray
+     * moves to a new internal array (by growing, for example) the old one is left to the snapshots and never written again.
+     * The saved chunks are kept until then, even if the snapshots they were saved for are no longer used.
+     * Like DynamicArray itself, a snapshot must not be read while another thread writes to this DynamicArray
+     * unless the threads synchronize.
+     * @return a snapshot of the current elements.
+     */
+    public DynamicArrayADT<T> snapshot(){
+        if (this.history == null) {
+            this.history = new ChunkHistory();
+        }
+        this.history.version += 1;
+        this.history.limit = Math.max(this.history.limit, this.offset + this.size);
+        return new Snapshot<T>(this.values, this.offset, this.size, this.history, this.history.version);
+    }
+
+    /**
+     * The chunks of an internal array that were saved for snapshots before being overwritten.
+     * Snapshots are numbered by version, and each saved copy of a chunk is for every snapshot taken after
+     * the chunk's previous copy and up to the version the copy was made at.
+     */
+    private static final class ChunkHistory {
+        /**
+         * the version of the newest snapshot of the internal array
+         */
+        private int version;
+
+        /**
+         * the index in the internal array just past the end of the largest snapshot, chunks past it are never saved
+         */
+        private int limit;
+
+        /**
+         * the saved copies of each chunk that has been overwritten, by chunk number
+         */
+        private final HashMap<Integer, ChunkVersions> chunks = new HashMap<Integer, ChunkVersions>();
+
+        /**
+         * private method to save every chunk overlapping [from, to) that the newest snapshot hasn't got a copy of yet.
+         * @param values the internal array, before it is written.
+         * @param from the first index being written.
+         * @param to the index just after the last one being written.
+         */
+        private void preserve(Object[] values, int from, int to) {
+            to = Math.min(to, this.limit);
+            if (from >= to) {
+                return;
+            }
+            for (int chunk = from >> SNAPSHOT_CHUNK_SHIFT; chunk <= (to - 1) >> SNAPSHOT_CHUNK_SHIFT; chunk++) {
+                ChunkVersions versions = this.chunks.get(chunk);
+                if (versions == null) {
+                    versions = new ChunkVersions();
+                    this.chunks.put(chunk, versions);
+                } else if (versions.newest() == this.version) {
+                    continue; // already saved since the newest snapshot was taken
+                }
+                int start = chunk << SNAPSHOT_CHUNK_SHIFT;
+                int end = Math.min(start + (1 << SNAPSHOT_CHUNK_SHIFT), this.limit);
+                versions.add(this.version, Arrays.copyOfRange(values, start, end));
+            }
+        }
+
+        /**
+         * private method for returning the saved copy of a chunk that a snapshot should read.
+         * @param chunk the chunk number.
+         * @param version the version of the snapshot.
+         * @return the saved chunk, or null if it hasn't changed since the snapshot, so the internal array has it.
+         */
+        private Object[] savedChunk(int chunk, int version) {
+            ChunkVersions versions = this.chunks.get(chunk);
+            return versions == null ? null : versions.find(version);
+        }
+    }
+
+    /**
+     * The saved copies of one chunk, in the order they were saved.
+     */
+    private static final class ChunkVersions {
+        /**
+         * the version each copy was saved at
+         */
+        private int[] versions = new int[2];
+
+        /**
+         * the saved copies
+         */
+        private Object[][] copies = new Object[2][];
+
+        /**
+         * the number of saved copies
+         */
+        private int count;
+
+        /**
+         * private method for returning the version of the last copy saved.
+         * @return the newest version.
+         */
+        private int newest() {
+            return this.versions[this.count - 1];
+        }
+
+        /**
+         * private method to add a copy of the chunk.
+         * @param version the version of the newest snapshot when the copy was made.
+         * @param copy the elements of the chunk before they were overwritten.
+         */
+        private void add(int version, Object[] copy) {
+            if (this.count == this.versions.length) {
+                this.versions = Arrays.copyOf(this.versions, this.count * 2);
+                this.copies = Arrays.copyOf(this.copies, this.count * 2);
+            }
+            this.versions[this.count] = version;
+            this.copies[this.count] = copy;
+            this.count += 1;
+        }
+
+        /**
+         * private method for finding the copy a snapshot should read, which is the first one saved at or after its version.
+         * @param version the version of the snapshot.
+         * @return the copy, or null if the chunk hasn't changed since the snapshot was taken.
+         */
+        private Object[] find(int version) {
+            int lo = 0;
+            int hi = this.count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (this.versions[mid] < version) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo == this.count ? null : this.copies[lo];
+        }
+    }
+
+    /**
+     * An unchangeable view of a DynamicArray at the moment snapshot was called. Each element is read from the saved
+     * copy of its chunk if the chunk has been overwritten since then, and from the internal array otherwise.
+     * The functional methods return new DynamicArrays.
+     */
+    private static final class Snapshot<T> implements DynamicArrayADT<T> {
+        /**
+         * the internal array of the DynamicArray when the snapshot was taken
+         */
+        private final T[] values;
+
+        /**
+         * the index in values of the first element
+         */
+        private final int offset;
+
+        /**
+         * the number of elements in the snapshot
+         */
+        private final int size;
+
+        /**
+         * the saved chunks of values
+         */
+        private final ChunkHistory history;
+
+        /**
+         * the version of this snapshot
+         */
+        private final int version;
+
+        /**
+         * Constructor for a Snapshot.
+         * @param values the internal array.
+         * @param offset the index in values of the first element.
+         * @param size the number of elements.
+         * @param history the saved chunks of values.
+         * @param version the version of this snapshot.
+         */
+        private Snapshot(T[] values, int offset, int size, ChunkHistory history, int version) {
+            this.values = values;
+            this.offset = offset;
+            this.size = size;
+            this.history = history;
+            this.version = version;
+        }
+
+        /**
+         * Method that always throws an UnsupportedOperationException, since a snapshot can't be changed.
+         * @param index the index of the element being set.
+         * @param val the value being stored.
+         * @return never returns.
+         */
+        public T set(int index, T val) {
+            throw new UnsupportedOperationException("A snapshot can't be changed");
+        }
+
+        /**
+         * Method to access a value stored in a specified index, as it was when the snapshot was taken.
+         * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException.
+         * @param index the index of the element being accessed.
+         * @return the value stored in the specified element.
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= this.size) {
+                throw new IndexOutOfBoundsException("Invalid Index");
+            }
+            int position = this.offset + index;
+            Object[] saved = this.history.savedChunk(position >> SNAPSHOT_CHUNK_SHIFT, this.version);
+            if (saved == null) {
+                return this.values[position];
+            }
+            return (T) saved[position & ((1 << SNAPSHOT_CHUNK_SHIFT) - 1)];
+        }
+
+        /**
+         * Method for returning the number of elements in the snapshot.
+         * @return the number of elements.
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Method that always throws an UnsupportedOperationException, since a snapshot can't be changed.
+         * @param index the index where the element would be added.
+         * @param val the value being added.
+         */
+        public void add(int index, T val) {
+            throw new UnsupportedOperationException("A snapshot can't be changed");
+        }
+
+        /**
+         * Method that always throws an UnsupportedOperationException, since a snapshot can't be changed.
+         * @param index the index of the element being removed.
+         * @return never returns.
+         */
+        public T remove(int index) {
+            throw new UnsupportedOperationException("A snapshot can't be changed");
+        }
+
+        /**
+         * Method to concatenate another DynamicArrayADT onto the end of the snapshot, returning a new DynamicArray.
+         * @param newArray the DynamicArrayADT being concatenated onto the end.
+         * @return a new DynamicArray with the snapshot's elements followed by those of newArray.
+         */
+        public DynamicArray<T> append(DynamicArrayADT<T> newArray) {
+            return this.insert(this.size, newArray);
+        }
+
+        /**
+         * Method for inserting the elements of another DynamicArrayADT at a specified index, returning a new DynamicArray.
+         * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+         * @param index the index where the new elements will be inserted.
+         * @param newArray the DynamicArrayADT being inserted.
+         * @return a new DynamicArray with the new elements inserted.
+         */
+        public DynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            int insertedVals = newArray.size();
+            DynamicArray<T> resultArr = new DynamicArray<T>(this.size + insertedVals);
+            this.copyInto(0, resultArr.values, 0, index);
+            newArray.copyInto(0, resultArr.values, index, insertedVals);
+            this.copyInto(index, resultArr.values, index + insertedVals, this.size - index);
+            resultArr.size = this.size + insertedVals;
+            return resultArr;
+        }
+
+        /**
+         * Method for returning the elements from a specified index and after as a new DynamicArray.
+         * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+         * @param index the index where the split begins, which is included in the result.
+         * @return a new DynamicArray of the elements after and including the index.
+         */
+        public DynamicArray<T> splitSuffix(int index) {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException("Invalid Index");
+            }
+            return this.extract(index, this.size);
+        }
+
+        /**
+         * Method for returning the elements before, but not including, a specified index as a new DynamicArray.
+         * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+         * @param index the index where the split happens.
+         * @return a new DynamicArray of the elements before the index.
+         */
+        public DynamicArray<T> splitPrefix(int index) {
+            if (index < 0 || index > this.size) {
+                throw new IndexOutOfBoundsException("Invalid Index");
+            }
+            return this.extract(0, index);
+        }
+
+        /**
+         * Method for removing the elements from startIndex up until just before endIndex, returning a new DynamicArray.
+         * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+         * it will throw an IndexOutOfBoundsException.
+         * @param startIndex the first index removed.
+         * @param endIndex the index just after the last one removed.
+         * @return a new DynamicArray without the removed elements.
+         */
+        public DynamicArray<T> delete(int startIndex, int endIndex) {
+            this.checkRange(startIndex, endIndex);
+            int remaining = this.size - (endIndex - startIndex);
+            DynamicArray<T> resultArr = new DynamicArray<T>(remaining);
+            this.copyInto(0, resultArr.values, 0, startIndex);
+            this.copyInto(endIndex, resultArr.values, startIndex, this.size - endIndex);
+            resultArr.size = remaining;
+            return resultArr;
+        }
+
+        /**
+         * Method for taking the elements from startIndex up until just before endIndex as a new DynamicArray.
+         * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+         * it will throw an IndexOutOfBoundsException.
+         * @param startIndex the first index of the extract.
+         * @param endIndex the index just after the last one in the extract.
+         * @return a new DynamicArray of the extracted elements.
+         */
+        public DynamicArray<T> extract(int startIndex, int endIndex) {
+            this.checkRange(startIndex, endIndex);
+            DynamicArray<T> extractArr = new DynamicArray<T>(endIndex - startIndex);
+            this.copyInto(startIndex, extractArr.values, 0, endIndex - startIndex);
+            extractArr.size = endIndex - startIndex;
+            return extractArr;
+        }
+
+        /**
+         * private method to check that [startIndex, endIndex) is a valid range of the snapshot.
+         * @param startIndex the first index in the range.
+         * @param endIndex the index just after the range.
+         */
+        private void checkRange(int startIndex, int endIndex) {
+            if (startIndex < 0 || startIndex > this.size) {
+                throw new IndexOutOfBoundsException("Invalid starting index");
+            }
+            if (endIndex < 0 || endIndex > this.size) {
+                throw new IndexOutOfBoundsException("Invalid ending index");
+            }
+            if (endIndex < startIndex) {
+                throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+            }
+        }
+
+        /**
+         * Method to copy a range of elements into an array, with one block copy per chunk.
+         * If the range is outside of the snapshot or outside of dest, it will throw an IndexOutOfBoundsException.
+         * @param srcPos the index of the first element being copied.
+         * @param dest the array the elements are copied into.
+         * @param destPos the index in dest where the first element goes.
+         * @param len the number of elements being copied.
+         */
+        public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+            if (srcPos < 0 || len < 0 || srcPos > this.size - len || destPos < 0 || destPos > dest.length - len) {
+                throw new IndexOutOfBoundsException("Invalid range");
+            }
+            int position = this.offset + srcPos;
+            int end = position + len;
+            while (position < end) {
+                int chunk = position >> SNAPSHOT_CHUNK_SHIFT;
+                int chunkStart = chunk << SNAPSHOT_CHUNK_SHIFT;
+                int count = Math.min(end, chunkStart + (1 << SNAPSHOT_CHUNK_SHIFT)) - position;
+                Object[] saved = this.history.savedChunk(chunk, this.version);
+                if (saved == null) {
+                    System.arraycopy(this.values, position, dest, destPos, count);
+                } else {
+                    System.arraycopy(saved, position - chunkStart, dest, destPos, count);
+                }
+                position += count;
+                destPos += count;
+            }
+        }
+
+        /**
+         * Method to convert the snapshot into a String representation.
+         * @return a String representation of the snapshot.
+         */
+        public String toString() {
+            Object[] items = new Object[this.size];
+            this.copyInto(0, items, 0, this.size);
+            return Arrays.toString(items);
+        }
+    }
+
+    // ITERATION AND STREAMS //
+
+    /**
+     * Method to return an iterator over the elements of the DynamicArray, from index 0 to size - 1.
+     * The iterator is fail-fast, if elements are added or removed by anything other than the iterator's own
+     * remove method, the next call to next will throw a ConcurrentModificationException.
+     * @return an iterator over the elements of the DynamicArray.
+     */
+    public Iterator<T> iterator(){
+        return new Itr();
+    }
+
+    /**
+     * Method to perform an action on every element of the DynamicArray in order.
+     * This reads the internal array directly instead of going through an iterator.
+     * If elements are added or removed by the action it will throw a ConcurrentModificationException.
+     * @param action the action performed on each element.
+     */
+    public void forEach(Consumer<? super T> action){
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedModCount = this.modCount;
+        for (int i = 0; i < this.size && this.modCount == expectedModCount; i++) {
+            action.accept(this.values[this.offset + i]);
+        }
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Method to return a Spliterator over the elements of the DynamicArray.
+     * It is SIZED, SUBSIZED and ORDERED, and trySplit always cuts the remaining range in half,
+     * so a parallel stream hands each thread an equal share of the internal array.
+     * @return a Spliterator over the elements of the DynamicArray.
+     */
+    public Spliterator<T> spliterator(){
+        return new ArraySpliterator(0, this.size, this.modCount);
+    }
+
+    /**
+     * Method to return a sequential Stream of the elements in the DynamicArray.
+     * @return a Stream of the elements in order.
+     */
+    public Stream<T> stream(){
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Method to return a parallel Stream of the elements in the DynamicArray,
+     * which is processed by the common ForkJoinPool.
+     * @return a parallel Stream of the elements.
+     */
+    public Stream<T> parallelStream(){
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Fail-fast iterator over the elements of the DynamicArray, which also supports removing the last element returned.
+     */
+    private class Itr implements Iterator<T> {
+        /**
+         * the index of the next element to return
+         */
+        private int cursor = 0;
+
+        /**
+         * the index of the element last returned by next, or -1 if there isn't one to remove
+         */
+        private int lastReturned = -1;
+
+        /**
+         * the modCount the DynamicArray should have, anything else means it was changed behind the iterator's back
+         */
+        private int expectedModCount = DynamicArray.this.modCount;
+
+        /**
+         * Method to check if there are any elements left to return.
+         * @return true if next will return another element.
+         */
+        public boolean hasNext() {
+            return this.cursor < DynamicArray.this.size;
+        }
+
+        /**
+         * Method to return the next element.
+         * @return the element at the cursor.
+         */
+        public T next() {
+            this.checkForComodification();
+            if (this.cursor >= DynamicArray.this.size) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.cursor;
+            this.cursor += 1;
+            return DynamicArray.this.values[DynamicArray.this.offset + this.lastReturned];
+        }
+
+        /**
+         * Method to remove the element last returned by next from the DynamicArray.
+         */
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            this.checkForComodification();
+            DynamicArray.this.remove(this.lastReturned);
+            this.cursor = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = DynamicArray.this.modCount;
+        }
+
+        /**
+         * private method to throw a ConcurrentModificationException if the DynamicArray has been changed.
+         */
+        private void checkForComodification() {
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over a range of the DynamicArray's elements, which splits the range evenly in half.
+     */
+    private class ArraySpliterator implements Spliterator<T> {
+        /**
+         * the index of the next element to return
+         */
+        private int index;
+
+        /**
+         * the index just after the last element this Spliterator covers
+         */
+        private final int fence;
+
+        /**
+         * the modCount the DynamicArray should have, anything else means it was changed while being traversed
+         */
+        private final int expectedModCount;
+
+        /**
+         * Constructor for a Spliterator covering the elements from index up until just before fence.
+         * @param index the first index covered.
+         * @param fence the index just after the last one covered.
+         * @param expectedModCount the modCount of the DynamicArray when the Spliterator was created.
+         */
+        private ArraySpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Method to split off the first half of the remaining range into a new Spliterator.
+         * @return a Spliterator for the first half, or null if there are fewer than two elements left.
+         */
+        public Spliterator<T> trySplit() {
+            int lo = this.index;
+            int mid = (lo + this.fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            this.index = mid;
+            return new ArraySpliterator(lo, mid, this.expectedModCount);
+        }
+
+        /**
+         * Method to perform an action on the next element, if there is one.
+         * @param action the action performed on the element.
+         * @return true if there was an element left.
+         */
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (this.index >= this.fence) {
+                return false;
+            }
+            T item = DynamicArray.this.values[DynamicArray.this.offset + this.index];
+            this.index += 1;
+            action.accept(item);
+            this.checkForComodification();
+            return true;
+        }
+
+        /**
+         * Method to perform an action on every remaining element with a tight loop over the internal array.
+         * @param action the action performed on each element.
+         */
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            T[] items = DynamicArray.this.values;
+            int start = DynamicArray.this.offset;
+            for (int i = this.index; i < this.fence; i++) {
+                action.accept(items[start + i]);
+            }
+            this.index = this.fence;
+            this.checkForComodification();
+        }
+
+        /**
+         * Method for returning the number of elements left, which is exact.
+         * @return the number of elements left to traverse.
+         */
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        /**
+         * Method for returning the characteristics of this Spliterator.
+         * @return SIZED, SUBSIZED and ORDERED.
+         */
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+
+        /**
+         * private method to throw a ConcurrentModificationException if the DynamicArray has been changed.
+         */
+        private void checkForComodification() {
+            if (DynamicArray.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 }
@@ -1,3 +1,5 @@
+import java.util.Objects;
+
 /**
  * Interface for implementing a DynamicArray in java, which has all of the built in behaviors of an array,
  * such as being able to store multiple values, setting them to a specific index and retrieving them from 
@@ -125,6 +127,66 @@ public interface DynamicArrayADT<T>{
      */
     public DynamicArrayADT<T> extract(int startIndex, int endIndex);
 
+    /**
+     * Method for finding the first index where a value is stored, comparing elements with equals.
+     * The default scans the elements from the front using get.
+     * @param val the value being searched for, which may be null.
+     * @return the lowest index holding an element equal to val, or -1 if there isn't one.
+     */
+    public default int indexOf(Object val) {
+        int numVals = this.size();
+        for (int i = 0; i < numVals; i++) {
+            if (Objects.equals(this.get(i), val)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for finding the last index where a value is stored, comparing elements with equals.
+     * The default scans the elements from the back using get.
+     * @param val the value being searched for, which may be null.
+     * @return the highest index holding an element equal to val, or -1 if there isn't one.
+     */
+    public default int lastIndexOf(Object val) {
+        for (int i = this.size() - 1; i >= 0; i--) {
+            if (Objects.equals(this.get(i), val)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for checking whether a value is stored anywhere in the DynamicArrayADT.
+     * @param val the value being searched for, which may be null.
+     * @return true if an element is equal to val.
+     */
+    public default boolean contains(Object val) {
+        return this.indexOf(val) >= 0;
+    }
+
+    /**
+     * Method to copy a range of elements into an array, starting at srcPos in this DynamicArrayADT.
+     * The functional methods use this to move whole blocks of another DynamicArrayADT at once, so
+     * implementations that store their elements contiguously should override it with block copies.
+     * The default copies one element at a time using get.
+     * If the range is outside of this DynamicArrayADT or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public default void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.size() - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        for (int i = 0; i < len; i++) {
+            dest[destPos + i] = this.get(srcPos + i);
+        }
+    }
+
     /**
      * Method to turn the object implementing the DynamicArrayADT into a String representation
      * @return the String representation of the object implementing the DynamicArrayADT.
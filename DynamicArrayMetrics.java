@@ -0,0 +1,259 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Counters for how much work a DynamicArray spends on memory: how many times its internal array was reallocated,
+ * how many elements were copied by System.arraycopy, roughly how many bytes were allocated for internal arrays,
+ * and the largest capacity it reached. Every DynamicArray has its own counters, and they are all added up in
+ * the global counters as well.
+ * Metrics are off unless the JVM is started with -Ddynamicarray.metrics=true. The setting is read once into a
+ * static final field, so when it is off the JIT compiler removes the counting code completely and it costs nothing.
+ * Separately from the counters, resizes and bulk copies of at least LARGE_OPERATION elements are reported as
+ * JFR events (dynamicarray.Resize and dynamicarray.BulkCopy), which only cost anything while a recording is running.
+ */
+public class DynamicArrayMetrics {
+    /**
+     * whether the counters are turned on, which can only be changed with the dynamicarray.metrics system property
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("dynamicarray.metrics");
+
+    /**
+     * resizes and copies of at least this many elements are reported as JFR events
+     */
+    public static final int LARGE_OPERATION = 1 << 16;
+
+    /**
+     * the estimated size of a reference in an array, which is 4 bytes with compressed oops and 8 without
+     */
+    private static final int REFERENCE_BYTES = referenceBytes();
+
+    /**
+     * the estimated size of the header at the start of every array
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * the counters for every DynamicArray added together
+     */
+    private static final DynamicArrayMetrics GLOBAL = new DynamicArrayMetrics(null);
+
+    /**
+     * the global counters, which every change to these counters is added to as well, or null if these are the global ones
+     */
+    private final DynamicArrayMetrics global;
+
+    /**
+     * the number of times the internal array was replaced with a larger or smaller one
+     */
+    private final LongAdder reallocations = new LongAdder();
+
+    /**
+     * the number of elements copied from one place in memory to another
+     */
+    private final LongAdder elementsCopied = new LongAdder();
+
+    /**
+     * the estimated number of bytes allocated for internal arrays
+     */
+    private final LongAdder bytesAllocated = new LongAdder();
+
+    /**
+     * the largest internal array allocated
+     */
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor for the counters of a single DynamicArray, which also add to the global counters.
+     */
+    public DynamicArrayMetrics() {
+        this(GLOBAL);
+    }
+
+    /**
+     * private constructor for a set of counters.
+     * @param global the global counters to add to as well, or null for the global counters themselves.
+     */
+    private DynamicArrayMetrics(DynamicArrayMetrics global) {
+        this.global = global;
+    }
+
+    /**
+     * Method for returning the counters for every DynamicArray added together.
+     * @return the global counters.
+     */
+    public static DynamicArrayMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * private method to work out the size of a reference, by asking HotSpot whether compressed oops are in use.
+     * @return 4 if references are compressed, 8 otherwise.
+     */
+    private static int referenceBytes() {
+        try {
+            com.sun.management.HotSpotDiagnosticMXBean hotspot =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(hotspot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (RuntimeException | LinkageError e) {
+            return 8; // not running on HotSpot, so assume the larger size
+        }
+    }
+
+    // RECORDING //
+
+    /**
+     * Method to record that an internal array was allocated.
+     * @param capacity the length of the new array.
+     */
+    public void recordAllocation(int capacity) {
+        this.bytesAllocated.add(ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES);
+        this.peakCapacity.accumulate(capacity);
+        if (this.global != null) {
+            this.global.recordAllocation(capacity);
+        }
+    }
+
+    /**
+     * Method to record that the internal array was replaced.
+     */
+    public void recordReallocation() {
+        this.reallocations.increment();
+        if (this.global != null) {
+            this.global.recordReallocation();
+        }
+    }
+
+    /**
+     * Method to record that elements were copied.
+     * @param count the number of elements copied.
+     */
+    public void recordCopy(int count) {
+        this.elementsCopied.add(count);
+        if (this.global != null) {
+            this.global.recordCopy(count);
+        }
+    }
+
+    // READING //
+
+    /**
+     * Method for returning the number of times the internal array was replaced with a larger or smaller one.
+     * @return the number of reallocations.
+     */
+    public long getReallocations() {
+        return this.reallocations.sum();
+    }
+
+    /**
+     * Method for returning the number of elements copied from one place in memory to another, by reallocating,
+     * by shifting elements in add and remove, and by building the results of the functional methods.
+     * @return the number of elements copied.
+     */
+    public long getElementsCopied() {
+        return this.elementsCopied.sum();
+    }
+
+    /**
+     * Method for returning an estimate of the bytes allocated for internal arrays, counting an array header
+     * and one reference for every slot.
+     * @return the estimated number of bytes allocated.
+     */
+    public long getBytesAllocated() {
+        return this.bytesAllocated.sum();
+    }
+
+    /**
+     * Method for returning the length of the largest internal array allocated.
+     * @return the peak capacity.
+     */
+    public long getPeakCapacity() {
+        return this.peakCapacity.get();
+    }
+
+    /**
+     * Method to set all of the counters back to zero. Resetting one DynamicArray's counters doesn't change the global ones.
+     */
+    public void reset() {
+        this.reallocations.reset();
+        this.elementsCopied.reset();
+        this.bytesAllocated.reset();
+        this.peakCapacity.reset();
+    }
+
+    /**
+     * Method to convert the counters into a String representation.
+     * @return a String listing each counter.
+     */
+    public String toString() {
+        return "reallocations=" + this.getReallocations() + ", elementsCopied=" + this.getElementsCopied()
+                + ", bytesAllocated=" + this.getBytesAllocated() + ", peakCapacity=" + this.getPeakCapacity();
+    }
+
+    // JFR EVENTS //
+
+    /**
+     * JFR event for the internal array of a DynamicArray being replaced, when the old or new array is large.
+     */
+    @Name("dynamicarray.Resize")
+    @Label("DynamicArray Resize")
+    @Category("DynamicArray")
+    @Description("The internal array of a DynamicArray was replaced with a larger or smaller one")
+    public static final class ResizeEvent extends Event {
+        /**
+         * the length of the internal array before the resize
+         */
+        @Label("Old Capacity")
+        public int oldCapacity;
+
+        /**
+         * the length of the internal array after the resize
+         */
+        @Label("New Capacity")
+        public int newCapacity;
+
+        /**
+         * the number of elements copied into the new array
+         */
+        @Label("Elements Copied")
+        public int elementsCopied;
+    }
+
+    /**
+     * JFR event for a large block of elements being copied, such as while building the result of a functional method.
+     */
+    @Name("dynamicarray.BulkCopy")
+    @Label("DynamicArray Bulk Copy")
+    @Category("DynamicArray")
+    @Description("A large block of elements was copied by a DynamicArray")
+    public static final class BulkCopyEvent extends Event {
+        /**
+         * the number of elements copied
+         */
+        @Label("Elements Copied")
+        public int elementsCopied;
+
+        /**
+         * the estimated number of bytes copied
+         */
+        @Label("Bytes Copied")
+        @DataAmount
+        public long bytesCopied;
+
+        /**
+         * Method to fill in the fields for a copy of a number of elements.
+         * @param count the number of elements copied.
+         */
+        public void setElements(int count) {
+            this.elementsCopied = count;
+            this.bytesCopied = (long) count * REFERENCE_BYTES;
+        }
+    }
+}
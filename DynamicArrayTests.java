@@ -1,7 +1,23 @@
 import org.junit.Test;
 import org.junit.Before;
+import org.junit.Assume;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
 /**
  * Class to test all the methods and behavior of DynamicArray class which implements DynamicArrayADT.
  */
@@ -39,17 +55,17 @@ public class DynamicArrayTests {
     }
 
     /**
-     * Compares the sizes of a DynamicArray<Character> and a string
+     * Compares the sizes of a DynamicArrayADT<Character> and a string
      */
-    public void compareSize(DynamicArray<Character> arr, String s){
+    public void compareSize(DynamicArrayADT<Character> arr, String s){
         assertEquals("["+s+"] Array lengths are equal", arr.size(), s.length());
     }
 
     /**
-     * Compares each element in a DynamicArray<Character>
+     * Compares each element in a DynamicArrayADT<Character>
      * against those in a string.
      */
-    public void compareToString(DynamicArray<Character> arr, String s) {
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
         for (int i = 0; i < arr.size(); i++) {
             assertEquals("["+s+"] Elements are equal at index " + i, arr.get(i).charValue(), s.charAt(i));
         }
@@ -281,9 +297,672 @@ public class DynamicArrayTests {
     public void testGetEmpty() {
         empty.get(0);
     }
-}
 
+    // ~*~*~*~*~ Capacity Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that the size passed to the constructor is used as the starting capacity,
+     * so filling it up does not cause the internal array to grow.
+     */
+    @Test
+    public void testCapacityPresized() {
+        DynamicArray<Character> arr = new DynamicArray<Character>(10);
+        assertEquals(10, arr.capacity());
+        for (int i = 0; i < 10; i++) {
+            arr.append('a');
+        }
+        assertEquals(10, arr.capacity());
+    }
+
+    /**
+     * Tests that appending past the capacity grows the internal array using the growth policy
+     * instead of by one element at a time.
+     */
+    @Test
+    public void testCapacityGrowth() {
+        DynamicArray<Character> doubling = new DynamicArray<Character>(4);
+        DynamicArray<Character> chunked = new DynamicArray<Character>(4, GrowthPolicy.fixedChunk(3));
+        DynamicArray<Character> halfAgain = new DynamicArray<Character>(4, GrowthPolicy.oneAndAHalf());
+        for (int i = 0; i < 5; i++) {
+            doubling.append('a');
+            chunked.append('a');
+            halfAgain.append('a');
+        }
+        assertEquals(8, doubling.capacity());
+        assertEquals(7, chunked.capacity());
+        assertEquals(6, halfAgain.capacity());
+
+        DynamicArray<Character> zero = new DynamicArray<Character>(0);
+        zero.append('a');
+        assertEquals(1, zero.capacity());
+        compareToString(zero, "a");
+    }
+
+    /**
+     * Tests that ensureCapacity and trimToSize change the capacity without changing the elements.
+     */
+    @Test
+    public void testEnsureCapacityAndTrim() {
+        a1.ensureCapacity(100);
+        assertTrue(a1.capacity() >= 100);
+        compareToString(a1, "abcdef");
+        compareSize(a1, "abcdef");
+
+        a1.trimToSize();
+        assertEquals(6, a1.capacity());
+        compareToString(a1, "abcdef");
+    }
+
+    // ~*~*~*~*~ Shifting And Shrinking Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that adding into an array with spare room shifts elements in place
+     * without changing the capacity.
+     */
+    @Test
+    public void testAddInPlace() {
+        a1.ensureCapacity(10);
+        int capacity = a1.capacity();
+        a1.add(3, 'm');
+        a1.add(0, 'n');
+        assertEquals(capacity, a1.capacity());
+        compareToString(a1, "nabcmdef");
+        compareSize(a1, "nabcmdef");
+    }
+
+    /**
+     * Tests that removing elements shifts the remaining elements left
+     * and returns the removed values.
+     */
+    @Test
+    public void testRemoveStandard() {
+        assertEquals(Character.valueOf('c'), a1.remove(2));
+        assertEquals(Character.valueOf('a'), a1.remove(0));
+        assertEquals(Character.valueOf('f'), a1.remove(a1.size()-1));
+        compareToString(a1, "bde");
+        compareSize(a1, "bde");
+    }
+
+    /**
+     * Tests that the internal array only shrinks after falling below the low-water mark,
+     * and that alternating adds and removes do not change the capacity.
+     */
+    @Test
+    public void testRemoveShrinkHysteresis() {
+        DynamicArray<Character> arr = new DynamicArray<Character>(64);
+        for (int i = 0; i < 40; i++) {
+            arr.append('a');
+        }
+        for (int i = 0; i < 100; i++) {
+            arr.add(20, 'b');
+            arr.remove(20);
+        }
+        assertEquals(64, arr.capacity());
+
+        while (arr.size() > 16) {
+            arr.remove(0);
+        }
+        assertEquals(64, arr.capacity()); // 16 is not below a quarter of 64
+        arr.remove(0);
+        assertEquals(30, arr.capacity()); // 15 elements, shrunk to twice the size
+
+        arr.setShrinkThreshold(0);
+        while (arr.size() > 0) {
+            arr.remove(0);
+        }
+        assertEquals(30, arr.capacity());
+    }
+
+    /**
+     * Tests that invalid low-water marks throw an IllegalArgumentException
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testShrinkThresholdBounds() {
+        a1.setShrinkThreshold(0.75);
+    }
+
+    /**
+     * Tests that removing at invalid indicies throws an IndexOutOfBoundsException
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveBounds() {
+        a1.remove(a1.size());
+    }
+
+    // ~*~*~*~*~ View Mode Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that in view mode extract, splitPrefix and splitSuffix return the same elements as in copy mode,
+     * and that views of views use the right elements.
+     */
+    @Test
+    public void testViewModeElements() {
+        a1.setViewMode(true);
+        compareToString(a1.extract(1, 3), "bc");
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(2), "cdef");
+        compareToString(a1.extract(0, 0), "");
+        DynamicArray<Character> suffix = a1.splitSuffix(1);
+        assertTrue(suffix.isViewMode());
+        compareToString(suffix.extract(1, 4), "cde");
+        compareToString(suffix.insert(1, a2), "bwxyzcdef");
+        compareToString(suffix.delete(0, 2), "def");
+        assertEquals("[b, c, d, e, f]", suffix.toString());
+    }
+
+    /**
+     * Tests that writing to a view doesn't change the array it was taken from.
+     */
+    @Test
+    public void testViewWriteCopies() {
+        a1.setViewMode(true);
+        DynamicArray<Character> view = a1.extract(1, 4);
+        view.set(0, 'B');
+        view.append('x');
+        view.add(0, 'y');
+        compareToString(view, "yBcdx");
+        compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that writing to the array a view was taken from doesn't change the view.
+     */
+    @Test
+    public void testParentWriteCopies() {
+        a1.setViewMode(true);
+        DynamicArray<Character> view = a1.extract(2, 5);
+        a1.set(2, 'C');
+        a1.remove(3);
+        compareToString(a1, "abCef");
+        compareToString(view, "cde");
+    }
+
+    // ~*~*~*~*~ Bulk Copy Tests Below ~*~*~*~*~
+
+    /**
+     * Tests copyInto on each kind of array, including copies that start past the gap and cross leaves.
+     */
+    @Test
+    public void testCopyInto() {
+        Object[] dest = new Object[8];
+        a1.copyInto(1, dest, 2, 4);
+        assertArrayEquals(new Object[] {null, null, 'b', 'c', 'd', 'e', null, null}, dest);
+
+        GapBufferDynamicArray<Character> gap = new GapBufferDynamicArray<Character>(a1);
+        gap.add(3, 'x'); // moves the gap into the middle
+        Object[] gapDest = new Object[5];
+        gap.copyInto(1, gapDest, 0, 5);
+        assertArrayEquals(new Object[] {'b', 'c', 'x', 'd', 'e'}, gapDest);
+
+        DynamicArray<Integer> nums = new DynamicArray<Integer>(0);
+        for (int i = 0; i < 100; i++) {
+            nums.append(i);
+        }
+        PersistentDynamicArray<Integer> tree = new PersistentDynamicArray<Integer>(nums);
+        Object[] treeDest = new Object[60];
+        tree.copyInto(20, treeDest, 0, 60);
+        for (int i = 0; i < 60; i++) {
+            assertEquals(20 + i, treeDest[i]);
+        }
+    }
+
+    /**
+     * Tests that copyInto rejects ranges outside of the array.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCopyIntoInvalidRange() {
+        a1.copyInto(4, new Object[10], 0, 3);
+    }
+
+    /**
+     * Tests insert with arrays of other kinds, which are copied in with copyInto.
+     */
+    @Test
+    public void testInsertOtherImplementations() {
+        GapBufferDynamicArray<Character> gap = new GapBufferDynamicArray<Character>(a2);
+        gap.add(1, 'q');
+        compareToString(a1.insert(2, gap), "abwqxyzcdef");
+        compareToString(a1.insert(6, new PersistentDynamicArray<Character>(a2)), "abcdefwxyz");
+        compareToString(a1.insert(0, a1), "abcdefabcdef");
+    }
+
+    // ~*~*~*~*~ Iteration And Stream Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that a for-each loop and the iterator's remove go through the elements in order.
+     */
+    @Test
+    public void testIterator() {
+        String result = "";
+        for (Character c : a1) {
+            result += c;
+        }
+        assertEquals("abcdef", result);
+
+        Iterator<Character> it = a1.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) { // b, d and f
+                it.remove();
+            }
+        }
+        compareToString(a1, "ace");
+    }
+
+    /**
+     * Tests that the iterator throws once the DynamicArray is changed underneath it.
+     */
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        for (Character c : a1) {
+            if (c == 'c') {
+                a1.append('z');
+            }
+        }
+    }
+
+    /**
+     * Tests sequential and parallel streams, and that the spliterator splits evenly.
+     */
+    @Test
+    public void testStreams() {
+        DynamicArray<Integer> nums = new DynamicArray<Integer>(0);
+        for (int i = 0; i < 10000; i++) {
+            nums.append(i);
+        }
+        assertEquals(49995000L, nums.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(49995000L, nums.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals("bcd", a1.extract(1, 4).stream().map(String::valueOf).collect(Collectors.joining()));
+
+        Spliterator<Integer> right = nums.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(5000, left.estimateSize());
+        assertEquals(5000, right.estimateSize());
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    }
+
+    // ~*~*~*~*~ Parallel Bulk Operation Tests Below ~*~*~*~*~
+
+    /**
+     * Helper method to make a DynamicArray of the integers from 0 up until just before n.
+     * @param n the number of integers.
+     * @return the new DynamicArray.
+     */
+    private DynamicArray<Integer> range(int n) {
+        DynamicArray<Integer> nums = new DynamicArray<Integer>(0);
+        for (int i = 0; i < n; i++) {
+            nums.append(i);
+        }
+        return nums;
+    }
+
+    /**
+     * Tests map, filter and reduce on a small array, which runs on the calling thread.
+     */
+    @Test
+    public void testBulkOperationsSmall() {
+        compareToString(a1.map(Character::toUpperCase), "ABCDEF");
+        compareToString(a1.filter(c -> c != 'b' && c != 'e'), "acdf");
+        compareToString(a1.filter(c -> false), "");
+        assertEquals("abcdef", a1.map(String::valueOf).reduce("", String::concat));
+        compareToString(a1.extract(2, 5).map(c -> (char) (c + 1)), "def");
+        compareToString(a1, "abcdef"); // the functional methods don't modify the original
+    }
+
+    /**
+     * Tests map, filter, reduce, forEachParallel and replaceAll on an array large enough to be split into many tasks.
+     */
+    @Test
+    public void testBulkOperationsParallel() {
+        int n = 100003; // not a multiple of the chunk size, so the last chunk is partly full
+        DynamicArray<Integer> nums = range(n);
+
+        DynamicArray<Long> squares = nums.map(i -> (long) i * i);
+        DynamicArray<Integer> evens = nums.filter(i -> i % 2 == 0);
+        assertEquals(n, squares.size());
+        assertEquals(Long.valueOf(99999L * 99999L), squares.get(99999));
+        assertEquals((n + 1) / 2, evens.size());
+        for (int i = 0; i < evens.size(); i++) {
+            assertEquals(Integer.valueOf(2 * i), evens.get(i));
+        }
+        assertEquals(Long.valueOf((long) n * (n - 1) / 2), nums.map(Integer::longValue).reduce(0L, Long::sum));
+        assertEquals("0123", range(4).map(String::valueOf).reduce("", String::concat)); // combined in order
+
+        LongAdder total = new LongAdder();
+        nums.forEachParallel(total::add);
+        assertEquals((long) n * (n - 1) / 2, total.sum());
+
+        nums.replaceAll(i -> -i);
+        assertEquals(Integer.valueOf(-12345), nums.get(12345));
+        assertEquals(Integer.valueOf(-(n - 1)), nums.get(n - 1));
+    }
+
+    /**
+     * Tests sort with a comparator and with the natural ordering, on small and large arrays.
+     */
+    @Test
+    public void testSort() {
+        DynamicArray<Character> mixed = stringToArray("dafbec");
+        compareToString(mixed.sort(null), "abcdef");
+        compareToString(mixed.sort(Comparator.reverseOrder()), "fedcba");
+        compareToString(mixed, "dafbec");
+
+        DynamicArray<Integer> nums = range(50000).map(i -> (i * 7919) % 50000); // a shuffle of 0 to 49999
+        DynamicArray<Integer> sorted = nums.sort(Integer::compare);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(Integer.valueOf(i), sorted.get(i));
+        }
+    }
+
+    // ~*~*~*~*~ Writing Tests Below ~*~*~*~*~
 
+    /**
+     * Tests toString with and without a limit, and writeTo with an Appendable.
+     */
+    @Test
+    public void testToStringAndWriteTo() throws IOException {
+        assertEquals("[a, b, c, d, e, f]", a1.toString());
+        assertEquals("[a, b, c, ...]", a1.toString(3));
+        assertEquals("[...]", a1.toString(0));
+        assertEquals("[a, b, c, d, e, f]", a1.toString(100));
+        assertEquals("[]", new DynamicArray<Character>(0).toString());
+
+        a1.add(1, null);
+        StringBuilder out = new StringBuilder();
+        a1.writeTo(out, 2);
+        assertEquals("[a, null, ...]", out.toString());
+    }
+
+    /**
+     * Tests writeTo with a channel, on an array large enough to need many buffers of output.
+     */
+    @Test
+    public void testWriteToChannel() throws IOException {
+        DynamicArray<String> words = new DynamicArray<String>(0);
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            words.append("caf\u00e9" + i);
+            expected.append(i > 0 ? ", " : "").append("caf\u00e9" + i);
+        }
+        expected.append("]");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        words.writeTo(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+        assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that print writes one element per line, and the limit.
+     */
+    @Test
+    public void testPrint() {
+        PrintStream original = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            a2.print();
+            a1.print(2);
+        } finally {
+            System.setOut(original);
+        }
+        String n = System.lineSeparator();
+        assertEquals("w" + n + "x" + n + "y" + n + "z" + n + "a" + n + "b" + n + "..." + n, bytes.toString());
+    }
 
+    // ~*~*~*~*~ Searching Tests Below ~*~*~*~*~
 
+    /**
+     * Tests indexOf, lastIndexOf and contains by scanning, including on a view and with nulls.
+     */
+    @Test
+    public void testSearchScan() {
+        DynamicArray<Character> arr = stringToArray("abcabc");
+        assertEquals(1, arr.indexOf('b'));
+        assertEquals(4, arr.lastIndexOf('b'));
+        assertEquals(-1, arr.indexOf('z'));
+        assertFalse(arr.contains('z'));
+        arr.setViewMode(true);
+        assertEquals(0, arr.extract(2, 5).indexOf('c'));
+        arr.append((Character) null);
+        assertEquals(6, arr.indexOf(null));
+        assertEquals(2, new GapBufferDynamicArray<Character>(arr).indexOf('c')); // the default in DynamicArrayADT
+    }
 
+    /**
+     * Tests that the hash index gives the same answers as scanning while the array is changed in every way.
+     */
+    @Test
+    public void testSearchIndexed() {
+        DynamicArray<Integer> indexed = new DynamicArray<Integer>(0);
+        DynamicArray<Integer> scanned = new DynamicArray<Integer>(0);
+        indexed.setIndexed(true);
+        Random random = new Random(7);
+        for (int step = 0; step < 3000; step++) {
+            int choice = random.nextInt(5);
+            int val = random.nextInt(40);
+            if (choice == 0 && indexed.size() > 0) {
+                int i = random.nextInt(indexed.size());
+                indexed.set(i, val);
+                scanned.set(i, val);
+            } else if (choice == 1 && indexed.size() > 0) {
+                int i = random.nextInt(indexed.size());
+                indexed.remove(i);
+                scanned.remove(i);
+            } else if (choice == 2) {
+                int i = random.nextInt(indexed.size() + 1);
+                indexed.add(i, val);
+                scanned.add(i, val);
+            } else {
+                indexed.append(val);
+                scanned.append(val);
+            }
+            int query = random.nextInt(45);
+            assertEquals(scanned.indexOf(query), indexed.indexOf(query));
+            assertEquals(scanned.lastIndexOf(query), indexed.lastIndexOf(query));
+            assertEquals(scanned.contains(query), indexed.contains(query));
+        }
+    }
+
+    // ~*~*~*~*~ Batch Edit Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that every index in a batch refers to the original elements, and how overlapping edits are resolved.
+     */
+    @Test
+    public void testBatchEdit() {
+        a1.edit()
+            .insert(0, 'q')
+            .remove(1)
+            .set(2, 'C')
+            .set(2, 'K')      // set again, so this value wins
+            .insert(2, 'r')   // goes before the original 'c'
+            .delete(3, 5)
+            .set(4, 'E')      // also removed, so the removal wins
+            .insert(6, 'z')
+            .insert(6, 'Z')   // same index, so it keeps its place after 'z'
+            .commit();
+        compareToString(a1, "qarKfzZ");
+
+        DynamicArray<Character>.Batch batch = a2.edit().remove(0);
+        a2.append('!');
+        try {
+            batch.commit();
+            fail();
+        } catch (ConcurrentModificationException e) {
+            // expected, the recorded indices no longer line up
+        }
+        compareToString(a2, "wxyz!");
+    }
+
+    /**
+     * Tests random batches against applying the same edits one at a time, working from the back
+     * so that the earlier edits don't move the indices of the later ones.
+     */
+    @Test
+    public void testBatchEditMatchesSingleEdits() {
+        Random random = new Random(13);
+        DynamicArray<Integer> batched = new DynamicArray<Integer>(0);
+        for (int i = 0; i < 500; i++) {
+            batched.append(i);
+        }
+        for (int round = 0; round < 20; round++) {
+            DynamicArray<Integer> single = new DynamicArray<Integer>(batched);
+            DynamicArray<Integer>.Batch batch = batched.edit();
+            // one edit per original index at most, so applying them from the back is well defined
+            for (int i = single.size(); i >= 0; i--) {
+                int choice = random.nextInt(8);
+                if (choice == 0) {
+                    batch.insert(i, -i);
+                    single.add(i, -i);
+                } else if (choice == 1 && i < single.size()) {
+                    batch.remove(i);
+                    single.remove(i);
+                } else if (choice == 2 && i < single.size()) {
+                    batch.set(i, round);
+                    single.set(i, round);
+                }
+            }
+            batch.commit();
+            assertEquals(single.toString(), batched.toString());
+        }
+    }
+
+    // ~*~*~*~*~ Array Pool Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that results released with try-with-resources give their internal arrays back to the pool,
+     * and that the next result of the same size class reuses one.
+     */
+    @Test
+    public void testPooledResultsAreReused() {
+        a1.setPooled(true);
+        try (DynamicArray<Character> warmUp = a1.extract(1, 4)) {
+            compareToString(warmUp, "bcd");
+        }
+        long hits = ArrayPool.getHits();
+        long misses = ArrayPool.getMisses();
+        for (int i = 0; i < 10; i++) {
+            try (DynamicArray<Character> joined = a1.append(a2)) {
+                assertTrue(joined.isPooled());
+                compareToString(joined, "abcdefwxyz");
+                assertEquals(16, joined.capacity()); // rounded up to the smallest size class
+            }
+        }
+        assertEquals(hits + 10, ArrayPool.getHits());
+        assertEquals(misses, ArrayPool.getMisses());
+
+        DynamicArray<Character> released = a1.splitSuffix(3);
+        released.release();
+        compareToString(released, "");
+        released.append('q'); // still usable after being released
+        compareToString(released, "q");
+    }
+
+    /**
+     * Tests that an internal array still read by a view isn't given back to the pool.
+     */
+    @Test
+    public void testSharedArraysAreNotPooled() {
+        a1.setPooled(true);
+        a1.setViewMode(true);
+        DynamicArray<Character> view = a1.extract(2, 5);
+        long returned = ArrayPool.getReturned();
+        a1.release();
+        assertEquals(returned, ArrayPool.getReturned());
+        compareToString(view, "cde"); // the view's elements were not cleared
+        view.append('!'); // copies the view's elements into its own array first
+        compareToString(view, "cde!");
+    }
+
+    // ~*~*~*~*~ Snapshot Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that a snapshot keeps its elements while the DynamicArray is changed in every way, and can't be changed itself.
+     */
+    @Test
+    public void testSnapshot() {
+        DynamicArrayADT<Character> before = a1.snapshot();
+        a1.set(0, 'A');
+        a1.add(3, '+');
+        a1.remove(1);
+        DynamicArrayADT<Character> middle = a1.snapshot();
+        a1.append('g');
+        a1.replaceAll(Character::toUpperCase);
+        compareSize(before, "abcdef");
+        compareToString(before, "abcdef");
+        compareSize(middle, "Ac+def");
+        compareToString(middle, "Ac+def");
+        compareToString(a1, "AC+DEFG");
+        assertEquals("[a, b, c, d, e, f]", before.toString());
+        compareToString(before.insert(2, middle.extract(0, 2)), "abAccdef");
+        compareToString(middle.delete(1, 3), "Adef");
+        try {
+            before.set(0, 'z');
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests many snapshots of a large array taken between random edits, each compared against a deep copy.
+     */
+    @Test
+    public void testManySnapshots() {
+        Random random = new Random(17);
+        DynamicArray<Integer> live = new DynamicArray<Integer>(0);
+        for (int i = 0; i < 5000; i++) {
+            live.append(i);
+        }
+        List<DynamicArrayADT<Integer>> snapshots = new ArrayList<DynamicArrayADT<Integer>>(30);
+        List<DynamicArray<Integer>> copies = new ArrayList<DynamicArray<Integer>>(30);
+        for (int round = 0; round < 30; round++) {
+            snapshots.add(live.snapshot());
+            copies.add(new DynamicArray<Integer>(live));
+            for (int edit = 0; edit < 20; edit++) {
+                int choice = random.nextInt(4);
+                if (choice == 0) {
+                    live.set(random.nextInt(live.size()), -round);
+                } else if (choice == 1) {
+                    live.add(random.nextInt(live.size() + 1), -round);
+                } else if (choice == 2) {
+                    live.remove(random.nextInt(live.size()));
+                } else {
+                    live.append(-round);
+                }
+            }
+        }
+        for (int round = 0; round < snapshots.size(); round++) {
+            assertEquals(copies.get(round).toString(), snapshots.get(round).toString());
+            int i = random.nextInt(copies.get(round).size());
+            assertEquals(copies.get(round).get(i), snapshots.get(round).get(i));
+        }
+    }
+
+    // ~*~*~*~*~ Metrics Tests Below ~*~*~*~*~
+
+    /**
+     * Tests the counters for reallocations, copies, allocated bytes and peak capacity.
+     * The counters only run when the JVM is started with -Ddynamicarray.metrics=true, which the Maven build does.
+     */
+    @Test
+    public void testMetrics() {
+        Assume.assumeTrue(DynamicArrayMetrics.ENABLED);
+        long globalReallocations = DynamicArrayMetrics.global().getReallocations();
+
+        DynamicArray<Integer> nums = new DynamicArray<Integer>(4);
+        for (int i = 0; i < 10; i++) {
+            nums.append(i); // grows from 4 to 8 to 16, copying 4 and then 8 elements
+        }
+        DynamicArrayMetrics metrics = nums.getMetrics();
+        assertEquals(2, metrics.getReallocations());
+        assertEquals(12, metrics.getElementsCopied());
+        assertEquals(16, metrics.getPeakCapacity());
+        assertTrue(metrics.getBytesAllocated() >= 4 * (4 + 8 + 16));
+        assertTrue(DynamicArrayMetrics.global().getReallocations() >= globalReallocations + 2);
+
+        metrics.reset();
+        nums.add(0, -1);      // shifts 10 elements with no reallocation
+        nums.extract(2, 7);   // copies 5 elements
+        assertEquals(0, metrics.getReallocations());
+        assertEquals(15, metrics.getElementsCopied());
+    }
+}
@@ -0,0 +1,112 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Interface for translating elements to and from a fixed number of bytes, so that an OffHeapDynamicArray
+ * can store them outside of the Java heap. Every element must take up exactly width() bytes, so fixed-size
+ * records can be stored by writing each of their fields at a fixed position within those bytes.
+ * @param <T> the type of the elements being translated.
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Method for returning the number of bytes each element takes up.
+     * @return the width of one element in bytes, which must be positive.
+     */
+    public int width();
+
+    /**
+     * Method to write an element into a buffer.
+     * @param buffer the buffer the element is written to.
+     * @param position the index in the buffer of the first byte of the element.
+     * @param val the element being written.
+     */
+    public void write(ByteBuffer buffer, int position, T val);
+
+    /**
+     * Method to read an element out of a buffer.
+     * @param buffer the buffer the element is read from.
+     * @param position the index in the buffer of the first byte of the element.
+     * @return the element stored at position.
+     */
+    public T read(ByteBuffer buffer, int position);
+
+    /**
+     * Codec that stores each Character in 2 bytes.
+     * @return an ElementCodec for Characters.
+     */
+    public static ElementCodec<Character> chars() {
+        return new ElementCodec<Character>() {
+            public int width() {
+                return Character.BYTES;
+            }
+
+            public void write(ByteBuffer buffer, int position, Character val) {
+                buffer.putChar(position, val);
+            }
+
+            public Character read(ByteBuffer buffer, int position) {
+                return buffer.getChar(position);
+            }
+        };
+    }
+
+    /**
+     * Codec that stores each Integer in 4 bytes.
+     * @return an ElementCodec for Integers.
+     */
+    public static ElementCodec<Integer> ints() {
+        return new ElementCodec<Integer>() {
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            public void write(ByteBuffer buffer, int position, Integer val) {
+                buffer.putInt(position, val);
+            }
+
+            public Integer read(ByteBuffer buffer, int position) {
+                return buffer.getInt(position);
+            }
+        };
+    }
+
+    /**
+     * Codec that stores each Long in 8 bytes.
+     * @return an ElementCodec for Longs.
+     */
+    public static ElementCodec<Long> longs() {
+        return new ElementCodec<Long>() {
+            public int width() {
+                return Long.BYTES;
+            }
+
+            public void write(ByteBuffer buffer, int position, Long val) {
+                buffer.putLong(position, val);
+            }
+
+            public Long read(ByteBuffer buffer, int position) {
+                return buffer.getLong(position);
+            }
+        };
+    }
+
+    /**
+     * Codec that stores each Double in 8 bytes.
+     * @return an ElementCodec for Doubles.
+     */
+    public static ElementCodec<Double> doubles() {
+        return new ElementCodec<Double>() {
+            public int width() {
+                return Double.BYTES;
+            }
+
+            public void write(ByteBuffer buffer, int position, Double val) {
+                buffer.putDouble(position, val);
+            }
+
+            public Double read(ByteBuffer buffer, int position) {
+                return buffer.getDouble(position);
+            }
+        };
+    }
+}
@@ -0,0 +1,402 @@
+import java.util.Arrays;
+
+/**
+ * Implementation of the DynamicArrayADT as a gap buffer, which is the structure text editors use to hold
+ * the text being edited. The internal array keeps its unused space as a gap in the middle instead of at the end,
+ * and the gap is moved to wherever the last add or remove happened.
+ * Edits usually come in bursts around one cursor position, like typing or holding down backspace,
+ * so after the first edit moves the gap, each following add or remove next to it is O(1).
+ * Moving the gap costs the distance it moves, and get is still O(1) because the index only has to
+ * skip over the gap if it is past it.
+ * @param <T> the type of the GapBufferDynamicArray object must be specified when a new instance is declared.
+ */
+public class GapBufferDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the internal array, which holds the elements before the gap, then the gap, then the elements after the gap
+     */
+    private T[] buffer;
+
+    /**
+     * the index in the internal array where the gap starts, which is also the number of elements before the gap
+     */
+    private int gapStart;
+
+    /**
+     * the index in the internal array just after the gap, where the elements after the gap start
+     */
+    private int gapEnd;
+
+    /**
+     * the strategy used to pick a new capacity when the gap is used up
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Constructor for the GapBufferDynamicArray class. The internal array doubles in size whenever the gap is used up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     */
+    public GapBufferDynamicArray(int size) {
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the GapBufferDynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the gap is used up.
+     */
+    public GapBufferDynamicArray(int size, GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        this.buffer = this.allocate(size);
+        this.gapStart = 0;
+        this.gapEnd = size; // the whole array is gap because no elements have been set yet
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Constructor for a GapBufferDynamicArray holding the same elements as another DynamicArrayADT,
+     * with the gap at the end.
+     * @param arr the DynamicArrayADT whose elements are copied into the new GapBufferDynamicArray.
+     */
+    public GapBufferDynamicArray(DynamicArrayADT<T> arr) {
+        this(arr.size());
+        arr.copyInto(0, this.buffer, 0, arr.size());
+        this.gapStart = arr.size();
+    }
+
+    /**
+     * private method to allocate space for an array of generic type
+     * by first creating an array of type Object and then casting it to generic
+     * @param len the length of the generic type array
+     * @return the new generic array
+     */
+    @SuppressWarnings("unchecked")
+    private T[] allocate(int len) {
+        return (T[]) new Object[len];
+    }
+
+    /**
+     * private method to return the number of unused slots in the gap.
+     * @return the length of the gap.
+     */
+    private int gapLength() {
+        return this.gapEnd - this.gapStart;
+    }
+
+    /**
+     * private method to move the gap so that it starts at a given index.
+     * The elements between the old and new positions are shifted across the gap with one block copy,
+     * and the slots they leave behind are cleared so the elements can be garbage collected.
+     * @param index the index where the gap should start, in [0, size].
+     */
+    private void moveGap(int index) {
+        int gapLength = this.gapLength();
+        if (index < this.gapStart) { // move the gap left, shifting elements right across it
+            int count = this.gapStart - index;
+            System.arraycopy(this.buffer, index, this.buffer, index + gapLength, count);
+            Arrays.fill(this.buffer, index, Math.min(this.gapStart, index + gapLength), null);
+        } else if (index > this.gapStart) { // move the gap right, shifting elements left across it
+            int count = index - this.gapStart;
+            System.arraycopy(this.buffer, this.gapEnd, this.buffer, this.gapStart, count);
+            Arrays.fill(this.buffer, Math.max(this.gapEnd, index), index + gapLength, null);
+        }
+        this.gapStart = index;
+        this.gapEnd = index + gapLength;
+    }
+
+    /**
+     * private method to make the gap at least a given length, moving the elements after the gap
+     * to the end of a larger internal array.
+     * @param minGap the number of elements that need to fit in the gap.
+     */
+    private void ensureGap(int minGap) {
+        if (this.gapLength() >= minGap) {
+            return;
+        }
+        int size = this.size();
+        int minCapacity = size + minGap;
+        int newCapacity = this.growthPolicy.grow(this.buffer.length, minCapacity);
+        if (newCapacity < minCapacity) { // also covers overflow, where the policy result goes negative
+            newCapacity = minCapacity;
+        }
+        T[] newBuffer = this.allocate(newCapacity);
+        int afterGap = this.buffer.length - this.gapEnd;
+        System.arraycopy(this.buffer, 0, newBuffer, 0, this.gapStart);
+        System.arraycopy(this.buffer, this.gapEnd, newBuffer, newCapacity - afterGap, afterGap);
+        this.buffer = newBuffer;
+        this.gapEnd = newCapacity - afterGap;
+    }
+
+    /**
+     * private method to copy the elements from startIndex up until just before endIndex into another array,
+     * using at most two block copies, one for each side of the gap.
+     * @param startIndex the first index being copied.
+     * @param endIndex the index just after the last one being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     */
+    private void copyRange(int startIndex, int endIndex, Object[] dest, int destPos) {
+        if (startIndex < this.gapStart) {
+            int beforeGap = Math.min(endIndex, this.gapStart) - startIndex;
+            System.arraycopy(this.buffer, startIndex, dest, destPos, beforeGap);
+            destPos += beforeGap;
+            startIndex += beforeGap;
+        }
+        if (startIndex < endIndex) {
+            System.arraycopy(this.buffer, startIndex + this.gapLength(), dest, destPos, endIndex - startIndex);
+        }
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this GapBufferDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        int size = this.size();
+        if (startIndex < 0 || startIndex > size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method for returning the index where the gap currently is, which is where the last add or remove happened.
+     * Adding or removing elements at or next to this index does not need to move any elements.
+     * @return the index of the gap, in [0, size].
+     */
+    public int gapPosition() {
+        return this.gapStart;
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the GapBufferDynamicArray.
+     * Setting the index equal to the size appends the value, the same as in DynamicArray.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size()) { // same thing as appending the value
+            this.add(index, val);
+            return null;
+        }
+        int position = index < this.gapStart ? index : index + this.gapLength();
+        T previousVal = this.buffer[position];
+        this.buffer[position] = val;
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (index < this.gapStart) {
+            return this.buffer[index];
+        }
+        return this.buffer[index + this.gapLength()]; // skip over the gap
+    }
+
+    /**
+     * Method for returning the number of elements stored in a GapBufferDynamicArray object.
+     * @return the number of elements currently stored in the GapBufferDynamicArray object
+     */
+    public int size() {
+        return this.buffer.length - this.gapLength();
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the GapBufferDynamicArray object. The gap is moved to the index first,
+     * so adding at the same index as the last edit, or just after it, is O(1).
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        this.moveGap(index);
+        this.ensureGap(1);
+        this.buffer[this.gapStart] = val;
+        this.gapStart += 1;
+    }
+
+    /**
+     * Method to remove an element from the GapBufferDynamicArray object. The gap is moved next to the
+     * element first, so removing right before or after the last edit, like backspace or delete, is O(1).
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        T removedElem;
+        if (index == this.gapStart - 1) { // the element just before the gap, like a backspace
+            this.gapStart -= 1;
+            removedElem = this.buffer[this.gapStart];
+            this.buffer[this.gapStart] = null;
+        } else {
+            this.moveGap(index);
+            removedElem = this.buffer[this.gapEnd];
+            this.buffer[this.gapEnd] = null;
+            this.gapEnd += 1;
+        }
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this GapBufferDynamicArray,
+     * where the result is returned as a new GapBufferDynamicArray object.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new GapBufferDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public GapBufferDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size(), newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into this GapBufferDynamicArray at
+     * a specified index. The result is returned as a new GapBufferDynamicArray, with its gap at the end.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted into this current GapBufferDynamicArray.
+     * @return a new GapBufferDynamicArray which is the current one with the new elements inserted.
+     */
+    public GapBufferDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        int size = this.size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        GapBufferDynamicArray<T> resultArr = new GapBufferDynamicArray<T>(size + insertedVals, this.growthPolicy);
+        this.copyRange(0, index, resultArr.buffer, 0);
+        newArray.copyInto(0, resultArr.buffer, index, insertedVals);
+        this.copyRange(index, size, resultArr.buffer, index + insertedVals);
+        resultArr.gapStart = size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new GapBufferDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new GapBufferDynamicArray.
+     * @return A new GapBufferDynamicArray object of all the elements after and including the specified index.
+     */
+    public GapBufferDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size());
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new GapBufferDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new GapBufferDynamicArray.
+     * @return The new GapBufferDynamicArray made up of the separated out elements.
+     */
+    public GapBufferDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current GapBufferDynamicArray is not modified, and the result is returned as a new GapBufferDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new GapBufferDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public GapBufferDynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        int size = this.size();
+        int remaining = size - (endIndex - startIndex);
+        GapBufferDynamicArray<T> resultArr = new GapBufferDynamicArray<T>(remaining, this.growthPolicy);
+        this.copyRange(0, startIndex, resultArr.buffer, 0);
+        this.copyRange(endIndex, size, resultArr.buffer, startIndex);
+        resultArr.gapStart = remaining;
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract from a GapBufferDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new GapBufferDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new GapBufferDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public GapBufferDynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        int numVals = endIndex - startIndex;
+        GapBufferDynamicArray<T> extractArr = new GapBufferDynamicArray<T>(numVals, this.growthPolicy);
+        this.copyRange(startIndex, endIndex, extractArr.buffer, 0);
+        extractArr.gapStart = numVals;
+        return extractArr;
+    }
+
+    /**
+     * Method to copy a range of elements into an array, with one block copy for each side of the gap.
+     * If the range is outside of this GapBufferDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.size() - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        this.copyRange(srcPos, srcPos + len, dest, destPos);
+    }
+
+    /**
+     * Method to convert the GapBufferDynamicArray into a String representation of the object.
+     * @return a String representation of the GapBufferDynamicArray object
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        int size = this.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(this.get(i));
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
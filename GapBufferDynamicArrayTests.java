@@ -0,0 +1,126 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of GapBufferDynamicArray, the gap buffer implementation of DynamicArrayADT.
+ */
+public class GapBufferDynamicArrayTests {
+
+    private GapBufferDynamicArray<Character> a1;
+    private GapBufferDynamicArray<Character> a2;
+    private GapBufferDynamicArray<Character> empty;
+
+    /**
+     * Initializes GapBufferDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+        empty = stringToArray("");
+    }
+
+    /**
+     * Puts the characters of a string into a GapBufferDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public GapBufferDynamicArray<Character> stringToArray(String s) {
+        GapBufferDynamicArray<Character> result = new GapBufferDynamicArray<Character>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests typing, backspacing and deleting around a cursor, the way a text editor uses the buffer.
+     */
+    @Test
+    public void testCursorEdits() {
+        int cursor = 3;
+        for (char c : "XYZ".toCharArray()) {
+            a1.add(cursor, c);
+            cursor += 1;
+        }
+        compareToString(a1, "abcXYZdef");
+        assertEquals(6, a1.gapPosition());
+
+        assertEquals(Character.valueOf('Z'), a1.remove(cursor - 1)); // backspace
+        cursor -= 1;
+        assertEquals(Character.valueOf('d'), a1.remove(cursor)); // delete
+        compareToString(a1, "abcXYef");
+        assertEquals(cursor, a1.gapPosition());
+
+        a1.add(0, '>');
+        a1.set(a1.size(), '<');
+        compareToString(a1, ">abcXYef<");
+    }
+
+    /**
+     * Tests the functional methods with the gap in the middle of the buffer,
+     * and that they don't modify the original arrays.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        a1.add(3, 'm');
+        a1.remove(3); // leaves the gap between c and d
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.append(a1), "abcdefabcdef");
+        compareToString(empty.append(a2), "wxyz");
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.extract(1, 5), "bcde");
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(4), "ef");
+        compareToString(a1.delete(1, 4), "aef");
+        compareToString(a1, "abcdef");
+        assertEquals("[a, b, c, d, e, f]", a1.toString());
+    }
+
+    /**
+     * Tests a random sequence of edits against an ArrayList.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(210);
+        ArrayList<Integer> expected = new ArrayList<Integer>();
+        GapBufferDynamicArray<Integer> arr = new GapBufferDynamicArray<Integer>(0);
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                arr.add(index, step);
+                expected.add(index, step);
+            } else {
+                index = Math.min(index, expected.size() - 1);
+                assertEquals(expected.remove(index), arr.remove(index));
+            }
+        }
+        assertEquals(expected.size(), arr.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests that invalid indicies throw an IndexOutOfBoundsException
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveBounds() {
+        a1.remove(a1.size());
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Interface for the strategy a DynamicArray uses to decide how large its internal array
+ * should become when it runs out of room for new elements.
+ * Growing by a constant factor (such as doubling) means that building an array of n elements
+ * only copies O(n) elements in total, so each append is amortized O(1).
+ * Growing by a fixed chunk copies fewer unused slots but gives O(n^2) copying for very large arrays.
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Method to compute the new capacity of the internal array when it needs to grow.
+     * The DynamicArray will never use a capacity smaller than minCapacity, so implementations
+     * only need to describe how much extra room they would like to leave.
+     * @param currentCapacity the current length of the internal array.
+     * @param minCapacity the smallest capacity that can hold all of the elements that need to be stored.
+     * @return the new capacity for the internal array.
+     */
+    public int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Growth policy that doubles the capacity each time the internal array fills up.
+     * @return a GrowthPolicy that doubles the current capacity.
+     */
+    public static GrowthPolicy doubling() {
+        return (currentCapacity, minCapacity) -> currentCapacity * 2;
+    }
+
+    /**
+     * Growth policy that grows the capacity by half of its current value each time the
+     * internal array fills up, which is the same policy used by ArrayList.
+     * @return a GrowthPolicy that multiplies the current capacity by 1.5.
+     */
+    public static GrowthPolicy oneAndAHalf() {
+        return (currentCapacity, minCapacity) -> currentCapacity + (currentCapacity >> 1);
+    }
+
+    /**
+     * Growth policy that adds the same number of elements to the capacity each time the internal array fills up.
+     * If the chunk size is not positive, it will throw an IllegalArgumentException.
+     * @param chunkSize the number of elements added to the capacity each time it grows.
+     * @return a GrowthPolicy that adds chunkSize elements to the current capacity.
+     */
+    public static GrowthPolicy fixedChunk(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+        return (currentCapacity, minCapacity) -> currentCapacity + chunkSize;
+    }
+}
@@ -0,0 +1,476 @@
+import java.util.Arrays;
+
+/**
+ * Implementation of a DynamicArray which stores int values directly in a int[] instead of boxing
+ * each one into a Integer object. This saves the memory of an object header and a reference for every element,
+ * and reading an element does not have to follow a pointer.
+ * It has the same methods as DynamicArrayADT, but since the elements are not objects it can't implement
+ * the interface itself, so it can be converted to and from a DynamicArray&lt;Integer&gt; instead.
+ */
+public class IntDynamicArray {
+    /**
+     * the internal array that holds the elements modified and accessed by the IntDynamicArray object.
+     */
+    private int[] values;
+
+    /**
+     * the number of elements set in the array
+     */
+    private int size;
+
+    /**
+     * the strategy used to pick a new capacity when the internal array runs out of room
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * internal arrays at or below this capacity are never shrunk because the memory saved is not worth the copy
+     */
+    private static final int MIN_SHRINK_CAPACITY = 16;
+
+    /**
+     * Constructor for the IntDynamicArray class. The internal array doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     */
+    public IntDynamicArray(int size){
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the IntDynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the internal array fills up.
+     */
+    public IntDynamicArray(int size, GrowthPolicy growthPolicy){
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        this.values = new int[size];
+        this.size = 0; // initialized to zero because no elements have been set yet
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * constructor for the IntDynamicArray class that makes a deep copy of the array passed as an argument
+     * @param arr the IntDynamicArray being copied into the new IntDynamicArray
+     */
+    public IntDynamicArray(IntDynamicArray arr) {
+        this.values = new int[arr.size()];
+        this.size = arr.size();
+        this.growthPolicy = arr.growthPolicy;
+        System.arraycopy(arr.values, 0, this.values, 0, arr.size());
+    }
+
+    /**
+     * private method to move the elements into a new internal array with a different capacity.
+     * @param newCapacity the length of the new internal array, which must be at least the size.
+     */
+    private void resize(int newCapacity){
+        int[] newValues = new int[newCapacity];
+        System.arraycopy(this.values, 0, newValues, 0, this.size);
+        this.values = newValues;
+    }
+
+    /**
+     * private method to ask the growth policy for the next capacity of the internal array.
+     * @param minCapacity the smallest capacity that can hold all of the elements.
+     * @return the new capacity, which is never smaller than minCapacity.
+     */
+    private int grownCapacity(int minCapacity){
+        int newCapacity = this.growthPolicy.grow(this.values.length, minCapacity);
+        if (newCapacity < minCapacity) { // also covers overflow, where the policy result goes negative
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    // CONVERSIONS //
+
+    /**
+     * Method to make a IntDynamicArray holding the same elements as an object implementing DynamicArrayADT.
+     * If any of the elements are null, it will throw a NullPointerException because null can't be stored as a int.
+     * @param arr the DynamicArrayADT being copied.
+     * @return a new IntDynamicArray with the unboxed elements of arr in the same order.
+     */
+    public static IntDynamicArray fromDynamicArray(DynamicArrayADT<Integer> arr){
+        int numVals = arr.size();
+        IntDynamicArray result = new IntDynamicArray(numVals);
+        Object[] boxed = new Object[numVals];
+        arr.copyInto(0, boxed, 0, numVals); // one block copy instead of a get for every element
+        for (int i = 0; i < numVals; i++) {
+            result.values[i] = (Integer) boxed[i];
+        }
+        result.size = numVals;
+        return result;
+    }
+
+    /**
+     * Method to make a DynamicArray holding the same elements as this IntDynamicArray, boxed into Integer objects.
+     * @return a new DynamicArray with the elements of this IntDynamicArray in the same order.
+     */
+    public DynamicArray<Integer> toDynamicArray(){
+        DynamicArray<Integer> result = new DynamicArray<Integer>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            result.append(this.values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Method to copy the elements into a new int[] that is exactly as long as the size.
+     * @return a new array of the elements in this IntDynamicArray.
+     */
+    public int[] toArray(){
+        int[] result = new int[this.size];
+        System.arraycopy(this.values, 0, result, 0, this.size);
+        return result;
+    }
+
+    // CAPACITY MANAGEMENT //
+
+    /**
+     * Method for returning the number of elements the IntDynamicArray can hold before the internal array has to grow.
+     * @return the length of the internal array.
+     */
+    public int capacity(){
+        return this.values.length;
+    }
+
+    /**
+     * Method to make sure the internal array can hold at least a given number of elements without growing again.
+     * @param minCapacity the number of elements the IntDynamicArray should be able to hold.
+     */
+    public void ensureCapacity(int minCapacity){
+        if (minCapacity > this.values.length) {
+            this.resize(this.grownCapacity(minCapacity));
+        }
+    }
+
+    /**
+     * Method to shrink the internal array so its capacity matches the number of elements stored.
+     */
+    public void trimToSize(){
+        if (this.values.length > this.size) {
+            this.resize(this.size);
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the IntDynamicArray.
+     * Setting the index equal to the size appends the value.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is 0 if the value was appended.
+     */
+    public int set(int index, int val){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as append(int val)
+            this.append(val);
+            return 0;
+        }
+        int previousVal = this.values[index];
+        this.values[index] = val;
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public int get(int index){
+        if (index < 0 || index >= this.size){
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Method for returning the number of elements stored in a IntDynamicArray object.
+     * @return the number of elements currently stored in the IntDynamicArray object
+     */
+    public int size(){
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the IntDynamicArray object, shifting the elements after it to the right.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, int val){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (this.size == this.values.length) {
+            // the array has to grow anyway, so leave the gap while copying into the larger array
+            int[] newValues = new int[this.grownCapacity(this.size + 1)];
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index, newValues, index + 1, this.size - index);
+            this.values = newValues;
+        } else {
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+        }
+        this.values[index] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the current IntDynamicArray.
+     * @param val the value being appended onto the IntDynamicArray.
+     */
+    public void append(int val){
+        this.ensureCapacity(this.size + 1);
+        this.values[this.size] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element from the IntDynamicArray object, shifting the elements after it to the left.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public int remove(int index){
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int removedElem = this.values[index];
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        this.size -= 1;
+
+        int capacity = this.values.length;
+        if (capacity > MIN_SHRINK_CAPACITY && this.size < capacity * DynamicArray.DEFAULT_SHRINK_THRESHOLD) {
+            this.resize(Math.max(this.size * 2, MIN_SHRINK_CAPACITY));
+        }
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another IntDynamicArray onto the end of the current IntDynamicArray object,
+     * where the result is returned as a new IntDynamicArray object.
+     * @param newArray The IntDynamicArray being concatenated onto the end of this current object
+     * @return a new IntDynamicArray which is the result of concatenating newArray onto the end of this IntDynamicArray.
+     */
+    public IntDynamicArray append(IntDynamicArray newArray){
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another IntDynamicArray into this IntDynamicArray at a specified index.
+     * The result is returned as a new IntDynamicArray object.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the IntDynamicArray being inserted into this current IntDynamicArray.
+     * @return a new IntDynamicArray which is the current IntDynamicArray with the new elements inserted.
+     */
+    public IntDynamicArray insert(int index, IntDynamicArray newArray){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size;
+        IntDynamicArray resultArr = new IntDynamicArray(this.size + insertedVals);
+        System.arraycopy(this.values, 0, resultArr.values, 0, index);
+        System.arraycopy(newArray.values, 0, resultArr.values, index, insertedVals);
+        System.arraycopy(this.values, index, resultArr.values, index + insertedVals, this.size - index);
+        resultArr.size = this.size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new IntDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new IntDynamicArray.
+     * @return A new IntDynamicArray object of all the elements after and including the specified index.
+     */
+    public IntDynamicArray splitSuffix(int index){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new IntDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new IntDynamicArray.
+     * @return The new IntDynamicArray made up of the separated out elements.
+     */
+    public IntDynamicArray splitPrefix(int index){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current IntDynamicArray object is not modified, and the result is returned as a new IntDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new IntDynamicArray object where elements from startIndex until just before endIndex have been removed.
+     */
+    public IntDynamicArray delete(int startIndex, int endIndex){
+        this.checkRange(startIndex, endIndex);
+        int removedVals = endIndex - startIndex;
+        IntDynamicArray resultArr = new IntDynamicArray(this.size - removedVals);
+        System.arraycopy(this.values, 0, resultArr.values, 0, startIndex);
+        System.arraycopy(this.values, endIndex, resultArr.values, startIndex, this.size - endIndex);
+        resultArr.size = this.size - removedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract from a IntDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new IntDynamicArray and the current IntDynamicArray remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new IntDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public IntDynamicArray extract(int startIndex, int endIndex){
+        this.checkRange(startIndex, endIndex);
+        int numVals = endIndex - startIndex;
+        IntDynamicArray extractArr = new IntDynamicArray(numVals);
+        System.arraycopy(this.values, startIndex, extractArr.values, 0, numVals);
+        extractArr.size = numVals;
+        return extractArr;
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this IntDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex){
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    // SCANS AND BULK OPERATIONS //
+
+    /**
+     * Method for returning the index of the first element equal to a value.
+     * The loop reads the internal array directly, so the JIT compiler can unroll it without any bounds checks or unboxing.
+     * @param val the value being searched for.
+     * @return the lowest index holding val, or -1 if it isn't stored.
+     */
+    public int indexOf(int val){
+        int[] items = this.values;
+        for (int i = 0; i < this.size; i++) {
+            if (items[i] == val) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for returning the number of elements equal to a value. There is no branch in the loop,
+     * so the JIT compiler can vectorize it.
+     * @param val the value being counted.
+     * @return the number of elements equal to val.
+     */
+    public int count(int val){
+        int[] items = this.values;
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            count += items[i] == val ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Method to set every element from startIndex up until just before endIndex to the same value,
+     * with Arrays.fill, which the JIT compiler turns into a vectorized fill.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the first index being set.
+     * @param endIndex the index just after the last one being set.
+     * @param val the value every element in the range is set to.
+     */
+    public void fill(int startIndex, int endIndex, int val){
+        this.checkRange(startIndex, endIndex);
+        Arrays.fill(this.values, startIndex, endIndex, val);
+    }
+
+    /**
+     * Method to check if another object is a IntDynamicArray with the same elements in the same order.
+     * The elements are compared with Arrays.equals, which uses the JDK's vectorized mismatch instead of comparing one element at a time.
+     * @param obj the object being compared.
+     * @return true if obj is a IntDynamicArray of the same size with equal elements.
+     */
+    public boolean equals(Object obj){
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntDynamicArray)) {
+            return false;
+        }
+        IntDynamicArray other = (IntDynamicArray) obj;
+        return Arrays.equals(this.values, 0, this.size, other.values, 0, other.size);
+    }
+
+    /**
+     * Method for returning a hash code of the elements, which is the same as Arrays.hashCode(int[]) of toArray().
+     * Four elements are folded in each step, multiplying by powers of 31 worked out ahead of time,
+     * so the multiplications don't all wait on each other like they do in the one element at a time loop.
+     * @return the hash code.
+     */
+    public int hashCode(){
+        int[] items = this.values;
+        int hash = 1;
+        int i = 0;
+        for (; i + 3 < this.size; i += 4) {
+            hash = 923521 * hash // 31^4
+                    + 29791 * items[i]
+                    + 961 * items[i + 1]
+                    + 31 * items[i + 2]
+                    + items[i + 3];
+        }
+        for (; i < this.size; i++) {
+            hash = 31 * hash + items[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Method to convert the IntDynamicArray into a String representation of the object.
+     * @return a String representation of the IntDynamicArray object
+     */
+    public String toString(){
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(this.values[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
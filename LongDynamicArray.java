@@ -0,0 +1,476 @@
+import java.util.Arrays;
+
+/**
+ * Implementation of a DynamicArray which stores long values directly in a long[] instead of boxing
+ * each one into a Long object. This saves the memory of an object header and a reference for every element,
+ * and reading an element does not have to follow a pointer.
+ * It has the same methods as DynamicArrayADT, but since the elements are not objects it can't implement
+ * the interface itself, so it can be converted to and from a DynamicArray&lt;Long&gt; instead.
+ */
+public class LongDynamicArray {
+    /**
+     * the internal array that holds the elements modified and accessed by the LongDynamicArray object.
+     */
+    private long[] values;
+
+    /**
+     * the number of elements set in the array
+     */
+    private int size;
+
+    /**
+     * the strategy used to pick a new capacity when the internal array runs out of room
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * internal arrays at or below this capacity are never shrunk because the memory saved is not worth the copy
+     */
+    private static final int MIN_SHRINK_CAPACITY = 16;
+
+    /**
+     * Constructor for the LongDynamicArray class. The internal array doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     */
+    public LongDynamicArray(int size){
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the LongDynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the internal array fills up.
+     */
+    public LongDynamicArray(int size, GrowthPolicy growthPolicy){
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        this.values = new long[size];
+        this.size = 0; // initialized to zero because no elements have been set yet
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * constructor for the LongDynamicArray class that makes a deep copy of the array passed as an argument
+     * @param arr the LongDynamicArray being copied into the new LongDynamicArray
+     */
+    public LongDynamicArray(LongDynamicArray arr) {
+        this.values = new long[arr.size()];
+        this.size = arr.size();
+        this.growthPolicy = arr.growthPolicy;
+        System.arraycopy(arr.values, 0, this.values, 0, arr.size());
+    }
+
+    /**
+     * private method to move the elements into a new internal array with a different capacity.
+     * @param newCapacity the length of the new internal array, which must be at least the size.
+     */
+    private void resize(int newCapacity){
+        long[] newValues = new long[newCapacity];
+        System.arraycopy(this.values, 0, newValues, 0, this.size);
+        this.values = newValues;
+    }
+
+    /**
+     * private method to ask the growth policy for the next capacity of the internal array.
+     * @param minCapacity the smallest capacity that can hold all of the elements.
+     * @return the new capacity, which is never smaller than minCapacity.
+     */
+    private int grownCapacity(int minCapacity){
+        int newCapacity = this.growthPolicy.grow(this.values.length, minCapacity);
+        if (newCapacity < minCapacity) { // also covers overflow, where the policy result goes negative
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    // CONVERSIONS //
+
+    /**
+     * Method to make a LongDynamicArray holding the same elements as an object implementing DynamicArrayADT.
+     * If any of the elements are null, it will throw a NullPointerException because null can't be stored as a long.
+     * @param arr the DynamicArrayADT being copied.
+     * @return a new LongDynamicArray with the unboxed elements of arr in the same order.
+     */
+    public static LongDynamicArray fromDynamicArray(DynamicArrayADT<Long> arr){
+        int numVals = arr.size();
+        LongDynamicArray result = new LongDynamicArray(numVals);
+        Object[] boxed = new Object[numVals];
+        arr.copyInto(0, boxed, 0, numVals); // one block copy instead of a get for every element
+        for (int i = 0; i < numVals; i++) {
+            result.values[i] = (Long) boxed[i];
+        }
+        result.size = numVals;
+        return result;
+    }
+
+    /**
+     * Method to make a DynamicArray holding the same elements as this LongDynamicArray, boxed into Long objects.
+     * @return a new DynamicArray with the elements of this LongDynamicArray in the same order.
+     */
+    public DynamicArray<Long> toDynamicArray(){
+        DynamicArray<Long> result = new DynamicArray<Long>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            result.append(this.values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Method to copy the elements into a new long[] that is exactly as long as the size.
+     * @return a new array of the elements in this LongDynamicArray.
+     */
+    public long[] toArray(){
+        long[] result = new long[this.size];
+        System.arraycopy(this.values, 0, result, 0, this.size);
+        return result;
+    }
+
+    // CAPACITY MANAGEMENT //
+
+    /**
+     * Method for returning the number of elements the LongDynamicArray can hold before the internal array has to grow.
+     * @return the length of the internal array.
+     */
+    public int capacity(){
+        return this.values.length;
+    }
+
+    /**
+     * Method to make sure the internal array can hold at least a given number of elements without growing again.
+     * @param minCapacity the number of elements the LongDynamicArray should be able to hold.
+     */
+    public void ensureCapacity(int minCapacity){
+        if (minCapacity > this.values.length) {
+            this.resize(this.grownCapacity(minCapacity));
+        }
+    }
+
+    /**
+     * Method to shrink the internal array so its capacity matches the number of elements stored.
+     */
+    public void trimToSize(){
+        if (this.values.length > this.size) {
+            this.resize(this.size);
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the LongDynamicArray.
+     * Setting the index equal to the size appends the value.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is 0 if the value was appended.
+     */
+    public long set(int index, long val){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as append(long val)
+            this.append(val);
+            return 0;
+        }
+        long previousVal = this.values[index];
+        this.values[index] = val;
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public long get(int index){
+        if (index < 0 || index >= this.size){
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Method for returning the number of elements stored in a LongDynamicArray object.
+     * @return the number of elements currently stored in the LongDynamicArray object
+     */
+    public int size(){
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the LongDynamicArray object, shifting the elements after it to the right.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, long val){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (this.size == this.values.length) {
+            // the array has to grow anyway, so leave the gap while copying into the larger array
+            long[] newValues = new long[this.grownCapacity(this.size + 1)];
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index, newValues, index + 1, this.size - index);
+            this.values = newValues;
+        } else {
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+        }
+        this.values[index] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the current LongDynamicArray.
+     * @param val the value being appended onto the LongDynamicArray.
+     */
+    public void append(long val){
+        this.ensureCapacity(this.size + 1);
+        this.values[this.size] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element from the LongDynamicArray object, shifting the elements after it to the left.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public long remove(int index){
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        long removedElem = this.values[index];
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        this.size -= 1;
+
+        int capacity = this.values.length;
+        if (capacity > MIN_SHRINK_CAPACITY && this.size < capacity * DynamicArray.DEFAULT_SHRINK_THRESHOLD) {
+            this.resize(Math.max(this.size * 2, MIN_SHRINK_CAPACITY));
+        }
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another LongDynamicArray onto the end of the current LongDynamicArray object,
+     * where the result is returned as a new LongDynamicArray object.
+     * @param newArray The LongDynamicArray being concatenated onto the end of this current object
+     * @return a new LongDynamicArray which is the result of concatenating newArray onto the end of this LongDynamicArray.
+     */
+    public LongDynamicArray append(LongDynamicArray newArray){
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another LongDynamicArray into this LongDynamicArray at a specified index.
+     * The result is returned as a new LongDynamicArray object.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the LongDynamicArray being inserted into this current LongDynamicArray.
+     * @return a new LongDynamicArray which is the current LongDynamicArray with the new elements inserted.
+     */
+    public LongDynamicArray insert(int index, LongDynamicArray newArray){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size;
+        LongDynamicArray resultArr = new LongDynamicArray(this.size + insertedVals);
+        System.arraycopy(this.values, 0, resultArr.values, 0, index);
+        System.arraycopy(newArray.values, 0, resultArr.values, index, insertedVals);
+        System.arraycopy(this.values, index, resultArr.values, index + insertedVals, this.size - index);
+        resultArr.size = this.size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new LongDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new LongDynamicArray.
+     * @return A new LongDynamicArray object of all the elements after and including the specified index.
+     */
+    public LongDynamicArray splitSuffix(int index){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new LongDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new LongDynamicArray.
+     * @return The new LongDynamicArray made up of the separated out elements.
+     */
+    public LongDynamicArray splitPrefix(int index){
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current LongDynamicArray object is not modified, and the result is returned as a new LongDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new LongDynamicArray object where elements from startIndex until just before endIndex have been removed.
+     */
+    public LongDynamicArray delete(int startIndex, int endIndex){
+        this.checkRange(startIndex, endIndex);
+        int removedVals = endIndex - startIndex;
+        LongDynamicArray resultArr = new LongDynamicArray(this.size - removedVals);
+        System.arraycopy(this.values, 0, resultArr.values, 0, startIndex);
+        System.arraycopy(this.values, endIndex, resultArr.values, startIndex, this.size - endIndex);
+        resultArr.size = this.size - removedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract from a LongDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new LongDynamicArray and the current LongDynamicArray remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new LongDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public LongDynamicArray extract(int startIndex, int endIndex){
+        this.checkRange(startIndex, endIndex);
+        int numVals = endIndex - startIndex;
+        LongDynamicArray extractArr = new LongDynamicArray(numVals);
+        System.arraycopy(this.values, startIndex, extractArr.values, 0, numVals);
+        extractArr.size = numVals;
+        return extractArr;
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this LongDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex){
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    // SCANS AND BULK OPERATIONS //
+
+    /**
+     * Method for returning the index of the first element equal to a value.
+     * The loop reads the internal array directly, so the JIT compiler can unroll it without any bounds checks or unboxing.
+     * @param val the value being searched for.
+     * @return the lowest index holding val, or -1 if it isn't stored.
+     */
+    public int indexOf(long val){
+        long[] items = this.values;
+        for (int i = 0; i < this.size; i++) {
+            if (items[i] == val) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for returning the number of elements equal to a value. There is no branch in the loop,
+     * so the JIT compiler can vectorize it.
+     * @param val the value being counted.
+     * @return the number of elements equal to val.
+     */
+    public int count(long val){
+        long[] items = this.values;
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            count += items[i] == val ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Method to set every element from startIndex up until just before endIndex to the same value,
+     * with Arrays.fill, which the JIT compiler turns into a vectorized fill.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the first index being set.
+     * @param endIndex the index just after the last one being set.
+     * @param val the value every element in the range is set to.
+     */
+    public void fill(int startIndex, int endIndex, long val){
+        this.checkRange(startIndex, endIndex);
+        Arrays.fill(this.values, startIndex, endIndex, val);
+    }
+
+    /**
+     * Method to check if another object is a LongDynamicArray with the same elements in the same order.
+     * The elements are compared with Arrays.equals, which uses the JDK's vectorized mismatch instead of comparing one element at a time.
+     * @param obj the object being compared.
+     * @return true if obj is a LongDynamicArray of the same size with equal elements.
+     */
+    public boolean equals(Object obj){
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongDynamicArray)) {
+            return false;
+        }
+        LongDynamicArray other = (LongDynamicArray) obj;
+        return Arrays.equals(this.values, 0, this.size, other.values, 0, other.size);
+    }
+
+    /**
+     * Method for returning a hash code of the elements, which is the same as Arrays.hashCode(long[]) of toArray().
+     * Four elements are folded in each step, multiplying by powers of 31 worked out ahead of time,
+     * so the multiplications don't all wait on each other like they do in the one element at a time loop.
+     * @return the hash code.
+     */
+    public int hashCode(){
+        long[] items = this.values;
+        int hash = 1;
+        int i = 0;
+        for (; i + 3 < this.size; i += 4) {
+            hash = 923521 * hash // 31^4
+                    + 29791 * Long.hashCode(items[i])
+                    + 961 * Long.hashCode(items[i + 1])
+                    + 31 * Long.hashCode(items[i + 2])
+                    + Long.hashCode(items[i + 3]);
+        }
+        for (; i < this.size; i++) {
+            hash = 31 * hash + Long.hashCode(items[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Method to convert the LongDynamicArray into a String representation of the object.
+     * @return a String representation of the LongDynamicArray object
+     */
+    public String toString(){
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(this.values[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
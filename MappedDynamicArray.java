@@ -0,0 +1,647 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of the DynamicArrayADT whose elements live in a memory-mapped file, so the contents
+ * survive restarts without being serialized and read back in. Opening an existing file only maps it,
+ * which is O(1) no matter how large the array is, and the operating system pages the elements in as they are used.
+ * Each element is translated to a fixed number of bytes by an ElementCodec.
+ *
+ * The file starts with a header of HEADER_BYTES bytes: a magic number, the layout version, the element width,
+ * the size and the capacity, followed by capacity * width bytes of element data. Everything is little-endian
+ * so a file can be moved between machines. The file is mapped in segments
+ * of up to 1 GiB because a single MappedByteBuffer can't be larger than 2 GiB, and no element crosses a segment.
+ *
+ * Changes are written to the mapping straight away, but are only guaranteed to be on disk after force().
+ * The group 3 functional methods return ordinary DynamicArrays in memory, since they would otherwise
+ * need a new file for every result.
+ * @param <T> the type of the MappedDynamicArray object must be specified when a new instance is declared.
+ */
+public class MappedDynamicArray<T> implements DynamicArrayADT<T>, AutoCloseable {
+    /**
+     * the number that every file written by this class starts with, which is "DYNA" in ASCII
+     */
+    private static final int MAGIC = 0x44594E41;
+
+    /**
+     * the version of the file layout described in the class comment
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * the number of bytes before the element data, which keeps the data aligned to a cache line
+     */
+    public static final int HEADER_BYTES = 64;
+
+    /**
+     * positions of the header fields
+     */
+    private static final int MAGIC_POS = 0, VERSION_POS = 4, WIDTH_POS = 8, SIZE_POS = 16, CAPACITY_POS = 24;
+
+    /**
+     * the largest number of bytes mapped by one segment
+     */
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    /**
+     * the smallest number of bytes the file grows by, so appending one element at a time doesn't resize the file every time
+     */
+    private static final int MIN_GROWTH_BYTES = 1 << 20;
+
+    /**
+     * the open file, or null once the array has been closed
+     */
+    private FileChannel channel;
+
+    /**
+     * the mapping of the header at the start of the file
+     */
+    private MappedByteBuffer header;
+
+    /**
+     * the mappings of the element data, each holding elementsPerSegment elements except possibly the last
+     */
+    private MappedByteBuffer[] segments;
+
+    /**
+     * the translator between elements and bytes
+     */
+    private ElementCodec<T> codec;
+
+    /**
+     * the number of bytes each element takes up
+     */
+    private int width;
+
+    /**
+     * the number of elements in each full segment
+     */
+    private int elementsPerSegment;
+
+    /**
+     * the number of bytes in each full segment, which is always a whole number of elements
+     */
+    private long segmentBytes;
+
+    /**
+     * the number of elements the file can hold
+     */
+    private int capacity;
+
+    /**
+     * the number of elements set in the array
+     */
+    private int size;
+
+    /**
+     * the strategy used to pick a new capacity when the file runs out of room
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * private constructor, use create or open instead.
+     * @param channel the open file.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param segmentBytes the largest number of bytes mapped by one segment.
+     * @throws IOException if the header can't be mapped.
+     */
+    private MappedDynamicArray(FileChannel channel, ElementCodec<T> codec, int segmentBytes) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+        this.elementsPerSegment = Math.max(1, segmentBytes / this.width);
+        this.segmentBytes = (long) this.elementsPerSegment * this.width;
+        this.growthPolicy = GrowthPolicy.doubling();
+        this.segments = new MappedByteBuffer[0];
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        this.header.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Method to create a new, empty MappedDynamicArray in a file. If the file already exists it is overwritten.
+     * @param path the file the array is stored in.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param capacity the number of elements the file can hold before it has to grow.
+     * @return the new MappedDynamicArray.
+     * @throws IOException if the file can't be created or mapped.
+     */
+    public static <T> MappedDynamicArray<T> create(Path path, ElementCodec<T> codec, int capacity) throws IOException {
+        return create(path, codec, capacity, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Method to create a new MappedDynamicArray with a specified segment size, which lets the tests use
+     * small segments to check elements being moved between them.
+     * @param path the file the array is stored in.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param capacity the number of elements the file can hold before it has to grow.
+     * @param segmentBytes the largest number of bytes mapped by one segment.
+     * @return the new MappedDynamicArray.
+     * @throws IOException if the file can't be created or mapped.
+     */
+    static <T> MappedDynamicArray<T> create(Path path, ElementCodec<T> codec, int capacity, int segmentBytes) throws IOException {
+        if (codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException("The codec must store each element in a positive number of bytes");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity can't be negative");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedDynamicArray<T> arr = new MappedDynamicArray<T>(channel, codec, segmentBytes);
+        arr.header.putInt(MAGIC_POS, MAGIC);
+        arr.header.putInt(VERSION_POS, VERSION);
+        arr.header.putInt(WIDTH_POS, arr.width);
+        arr.header.putLong(SIZE_POS, 0);
+        arr.mapCapacity(capacity);
+        return arr;
+    }
+
+    /**
+     * Method to open a MappedDynamicArray that was stored in a file by create. Only the header is read,
+     * so this takes the same time for any size of array.
+     * @param path the file the array is stored in.
+     * @param codec the ElementCodec used to store the elements as bytes, which must have the width the file was written with.
+     * @return the MappedDynamicArray stored in the file.
+     * @throws IOException if the file can't be opened, or wasn't written by this class with the same element width.
+     */
+    public static <T> MappedDynamicArray<T> open(Path path, ElementCodec<T> codec) throws IOException {
+        return open(path, codec, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Method to open a MappedDynamicArray with a specified segment size, which lets the tests use small segments.
+     * @param path the file the array is stored in.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param segmentBytes the largest number of bytes mapped by one segment.
+     * @return the MappedDynamicArray stored in the file.
+     * @throws IOException if the file can't be opened, or wasn't written by this class with the same element width.
+     */
+    static <T> MappedDynamicArray<T> open(Path path, ElementCodec<T> codec, int segmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("The file is too short to be a MappedDynamicArray");
+            }
+            MappedDynamicArray<T> arr = new MappedDynamicArray<T>(channel, codec, segmentBytes);
+            if (arr.header.getInt(MAGIC_POS) != MAGIC) {
+                throw new IOException("The file is not a MappedDynamicArray");
+            }
+            if (arr.header.getInt(VERSION_POS) != VERSION) {
+                throw new IOException("Unsupported MappedDynamicArray version " + arr.header.getInt(VERSION_POS));
+            }
+            if (arr.header.getInt(WIDTH_POS) != arr.width) {
+                throw new IOException("The file stores elements of " + arr.header.getInt(WIDTH_POS)
+                        + " bytes but the codec uses " + arr.width);
+            }
+            long capacity = arr.header.getLong(CAPACITY_POS);
+            long size = arr.header.getLong(SIZE_POS);
+            if (capacity > Integer.MAX_VALUE || size < 0 || size > capacity
+                    || channel.size() < HEADER_BYTES + capacity * arr.width) {
+                throw new IOException("The MappedDynamicArray header is corrupt");
+            }
+            arr.mapCapacity((int) capacity);
+            arr.size = (int) size;
+            return arr;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * private method to map enough of the file to hold a number of elements, growing the file if needed.
+     * Segments that were already full are kept, and only the last partial segment and any new ones are mapped.
+     * @param newCapacity the number of elements the file needs to hold.
+     * @throws IOException if the file can't be grown or mapped.
+     */
+    private void mapCapacity(int newCapacity) throws IOException {
+        long dataBytes = (long) newCapacity * this.width;
+        int numSegments = (int) ((dataBytes + this.segmentBytes - 1) / this.segmentBytes);
+        MappedByteBuffer[] newSegments = new MappedByteBuffer[numSegments];
+        for (int k = 0; k < numSegments; k++) {
+            long start = k * this.segmentBytes;
+            long length = Math.min(this.segmentBytes, dataBytes - start);
+            if (k < this.segments.length && this.segments[k].capacity() == length) {
+                newSegments[k] = this.segments[k];
+            } else {
+                newSegments[k] = this.channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + start, length); // grows the file
+                newSegments[k].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        this.segments = newSegments;
+        this.capacity = newCapacity;
+        this.header.putLong(CAPACITY_POS, newCapacity);
+    }
+
+    /**
+     * private method to check that the array has not been closed, otherwise it will throw an IllegalStateException.
+     */
+    private void checkOpen() {
+        if (this.channel == null) {
+            throw new IllegalStateException("The array has been closed");
+        }
+    }
+
+    /**
+     * private method to return the segment holding a byte of the element data.
+     * @param position the position of the byte from the start of the element data.
+     * @return the segment the byte is in.
+     */
+    private ByteBuffer segmentAt(long position) {
+        return this.segments[(int) (position / this.segmentBytes)];
+    }
+
+    /**
+     * private method to return where a byte of the element data is within its segment.
+     * @param position the position of the byte from the start of the element data.
+     * @return the position of the byte within its segment.
+     */
+    private int offsetAt(long position) {
+        return (int) (position % this.segmentBytes);
+    }
+
+    /**
+     * private method to read an element without checking the index.
+     * @param index the index of the element.
+     * @return the element stored at index.
+     */
+    private T read(int index) {
+        return this.codec.read(this.segments[index / this.elementsPerSegment], (index % this.elementsPerSegment) * this.width);
+    }
+
+    /**
+     * private method to write an element without checking the index, which will throw an IllegalArgumentException if it is null.
+     * @param index the index the element is written to.
+     * @param val the element being written.
+     */
+    private void write(int index, T val) {
+        if (val == null) {
+            throw new IllegalArgumentException("A MappedDynamicArray can't store null");
+        }
+        this.codec.write(this.segments[index / this.elementsPerSegment], (index % this.elementsPerSegment) * this.width, val);
+    }
+
+    /**
+     * private method to move a block of element data, which may overlap itself and cross segments.
+     * The bytes are copied in pieces that each stay inside one source and one destination segment,
+     * working from the end when moving right so no byte is overwritten before it is copied.
+     * @param src the position of the first byte being moved.
+     * @param dest the position the first byte is moved to.
+     * @param len the number of bytes being moved.
+     */
+    private void moveBytes(long src, long dest, long len) {
+        if (len <= 0 || src == dest) {
+            return;
+        }
+        if (dest < src) {
+            long done = 0;
+            while (done < len) {
+                long s = src + done;
+                long d = dest + done;
+                long piece = Math.min(len - done, Math.min(this.segmentBytes - s % this.segmentBytes, this.segmentBytes - d % this.segmentBytes));
+                this.segmentAt(d).put(this.offsetAt(d), this.segmentAt(s), this.offsetAt(s), (int) piece);
+                done += piece;
+            }
+        } else {
+            long remaining = len;
+            while (remaining > 0) {
+                long sEnd = src + remaining;
+                long dEnd = dest + remaining;
+                long piece = Math.min(remaining, Math.min((sEnd - 1) % this.segmentBytes + 1, (dEnd - 1) % this.segmentBytes + 1));
+                this.segmentAt(dEnd - piece).put(this.offsetAt(dEnd - piece), this.segmentAt(sEnd - piece), this.offsetAt(sEnd - piece), (int) piece);
+                remaining -= piece;
+            }
+        }
+    }
+
+    /**
+     * private method to record a new size in the header.
+     * @param newSize the number of elements now stored.
+     */
+    private void setSize(int newSize) {
+        this.size = newSize;
+        this.header.putLong(SIZE_POS, newSize);
+    }
+
+    /**
+     * Method for returning the number of elements the file can hold before it has to grow.
+     * @return the capacity in elements.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Method to make sure the file can hold at least a given number of elements without growing again.
+     * The file grows by the growth policy, and by at least 1 MiB, so growing is rare.
+     * If the file can't be grown it will throw an UncheckedIOException.
+     * @param minCapacity the number of elements the MappedDynamicArray should be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        this.checkOpen();
+        if (minCapacity <= this.capacity) {
+            return;
+        }
+        long newCapacity = Math.max(this.growthPolicy.grow(this.capacity, minCapacity), (long) this.capacity + MIN_GROWTH_BYTES / this.width);
+        newCapacity = Math.max(Math.min(newCapacity, Integer.MAX_VALUE), minCapacity);
+        try {
+            this.mapCapacity((int) newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to make sure every change to the elements and the header has been written to disk.
+     */
+    public void force() {
+        this.checkOpen();
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+        this.header.force();
+    }
+
+    /**
+     * Method to write every change to disk and close the file. After this, every method except size,
+     * capacity and close will throw an IllegalStateException. Closing an array more than once does nothing.
+     * If the file can't be closed it will throw an UncheckedIOException.
+     */
+    public void close() {
+        if (this.channel == null) {
+            return;
+        }
+        this.force();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.channel = null;
+            this.header = null;
+            this.segments = null;
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the MappedDynamicArray, writing it straight to the mapping.
+     * Setting the index equal to the size appends the value, the same as in DynamicArray.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index, which can't be null.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as append(T val)
+            this.append(val);
+            return null;
+        }
+        T previousVal = this.read(index);
+        this.write(index, val);
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index, reading it straight from the mapping.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        this.checkOpen();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.read(index);
+    }
+
+    /**
+     * Method for returning the number of elements stored in a MappedDynamicArray object.
+     * @return the number of elements currently stored in the MappedDynamicArray object
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the MappedDynamicArray object, shifting the elements after it to the right.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element, which can't be null.
+     */
+    public void add(int index, T val) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (val == null) {
+            throw new IllegalArgumentException("A MappedDynamicArray can't store null");
+        }
+        this.ensureCapacity(this.size + 1);
+        long position = (long) index * this.width;
+        this.moveBytes(position, position + this.width, (long) (this.size - index) * this.width);
+        this.write(index, val);
+        this.setSize(this.size + 1);
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the current MappedDynamicArray.
+     * @param val the value being appended onto the MappedDynamicArray, which can't be null.
+     */
+    public void append(T val) {
+        this.add(this.size, val);
+    }
+
+    /**
+     * Method to remove an element from the MappedDynamicArray object, shifting the elements after it to the left.
+     * The file does not shrink.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        this.checkOpen();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        T removedElem = this.read(index);
+        long position = (long) index * this.width;
+        this.moveBytes(position + this.width, position, (long) (this.size - index - 1) * this.width);
+        this.setSize(this.size - 1);
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this MappedDynamicArray,
+     * where the result is returned as a new DynamicArray in memory.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new DynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public DynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into this MappedDynamicArray at
+     * a specified index. The result is returned as a new DynamicArray in memory.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted into this current MappedDynamicArray.
+     * @return a new DynamicArray which is the current MappedDynamicArray with the new elements inserted.
+     */
+    public DynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        Object[] items = new Object[this.size + insertedVals];
+        this.copyInto(0, items, 0, index);
+        newArray.copyInto(0, items, index, insertedVals);
+        this.copyInto(index, items, index + insertedVals, this.size - index);
+        return DynamicArray.wrap(items, items.length);
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new DynamicArray in memory.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new DynamicArray.
+     * @return A new DynamicArray of all the elements after and including the specified index.
+     */
+    public DynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new DynamicArray in memory.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new DynamicArray.
+     * @return The new DynamicArray made up of the separated out elements.
+     */
+    public DynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current MappedDynamicArray is not modified, and the result is returned as a new DynamicArray in memory.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new DynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public DynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkOpen();
+        this.checkRange(startIndex, endIndex);
+        Object[] items = new Object[this.size - (endIndex - startIndex)];
+        this.copyInto(0, items, 0, startIndex);
+        this.copyInto(endIndex, items, startIndex, this.size - endIndex);
+        return DynamicArray.wrap(items, items.length);
+    }
+
+    /**
+     * Method for taking an extract from a MappedDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new DynamicArray in memory and the current MappedDynamicArray remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new DynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public DynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkOpen();
+        this.checkRange(startIndex, endIndex);
+        Object[] items = new Object[endIndex - startIndex];
+        this.copyInto(startIndex, items, 0, items.length);
+        return DynamicArray.wrap(items, items.length);
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this MappedDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method to copy a range of elements into an array, decoding them straight from each segment in turn
+     * instead of checking every index the way get does.
+     * If the range is outside of this MappedDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        this.checkOpen();
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        int end = srcPos + len;
+        int i = srcPos;
+        while (i < end) {
+            int k = i / this.elementsPerSegment;
+            ByteBuffer segment = this.segments[k];
+            int segmentEnd = (int) Math.min(end, (long) (k + 1) * this.elementsPerSegment);
+            for (int position = (i % this.elementsPerSegment) * this.width; i < segmentEnd; i++, position += this.width) {
+                dest[destPos + (i - srcPos)] = this.codec.read(segment, position);
+            }
+        }
+    }
+
+    /**
+     * Method to convert the MappedDynamicArray into a String representation of the object.
+     * @return a String representation of the MappedDynamicArray object
+     */
+    public String toString() {
+        this.checkOpen();
+        Object[] items = new Object[this.size];
+        this.copyInto(0, items, 0, this.size);
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(items[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,116 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+import org.junit.Before;
+import org.junit.After;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of MappedDynamicArray, which stores its elements in a memory-mapped file.
+ */
+public class MappedDynamicArrayTests {
+
+    private Path file;
+    private MappedDynamicArray<Integer> arr;
+
+    /**
+     * Creates a new file holding 0 to 2999 before each test. The segments are only 4 KiB,
+     * so adding and removing has to move elements between segments.
+     */
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("MappedDynamicArrayTests", ".dyna");
+        arr = MappedDynamicArray.create(file, ElementCodec.ints(), 0, 4096);
+        for (int i = 0; i < 3000; i++) {
+            arr.append(i);
+        }
+    }
+
+    /**
+     * Closes and deletes the file after each test.
+     */
+    @After
+    public void tearDown() throws IOException {
+        arr.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Tests that the elements are still there after the file is closed and opened again.
+     */
+    @Test
+    public void testReopen() throws IOException {
+        arr.set(5, -5);
+        arr.close();
+        arr = MappedDynamicArray.open(file, ElementCodec.ints(), 4096);
+        assertEquals(3000, arr.size());
+        assertEquals(Integer.valueOf(-5), arr.get(5));
+        assertEquals(Integer.valueOf(2999), arr.get(2999));
+    }
+
+    /**
+     * Tests that add and remove shift elements correctly across segment boundaries.
+     */
+    @Test
+    public void testShiftAcrossSegments() {
+        arr.add(3, -1);
+        arr.add(0, -2);
+        assertEquals(3002, arr.size());
+        assertEquals(Integer.valueOf(-2), arr.get(0));
+        assertEquals(Integer.valueOf(-1), arr.get(4));
+        for (int i = 5; i < 3002; i++) {
+            assertEquals(Integer.valueOf(i - 2), arr.get(i));
+        }
+        assertEquals(Integer.valueOf(-1), arr.remove(4));
+        assertEquals(Integer.valueOf(-2), arr.remove(0));
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(Integer.valueOf(i), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests that the functional methods return DynamicArrays with the right elements.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        assertEquals("[2, 3]", arr.extract(2, 4).toString());
+        assertEquals(Integer.valueOf(97), arr.splitSuffix(97).get(0));
+        assertEquals(3, arr.splitPrefix(3).size());
+        assertEquals(Integer.valueOf(10), arr.delete(0, 10).get(0));
+        assertEquals(Integer.valueOf(0), arr.insert(0, arr.extract(0, 1)).get(1));
+        assertEquals(6000, arr.append(arr).size());
+    }
+
+    /**
+     * Tests copying a range that crosses segments into an array, and a DynamicArray inserting a MappedDynamicArray.
+     */
+    @Test
+    public void testCopyInto() {
+        Object[] dest = new Object[1500];
+        arr.copyInto(1000, dest, 0, 1500); // the 4 KiB segments hold 1024 ints, so this covers three of them
+        assertEquals(1000, dest[0]);
+        assertEquals(2499, dest[1499]);
+        DynamicArray<Integer> onHeap = new DynamicArray<Integer>(0);
+        onHeap.append(-1);
+        DynamicArray<Integer> joined = onHeap.insert(1, arr);
+        assertEquals(3001, joined.size());
+        assertEquals(Integer.valueOf(2999), joined.get(3000));
+        try {
+            arr.copyInto(2000, dest, 0, 1001);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests that a file written with a different element width can't be opened.
+     */
+    @Test(expected = IOException.class)
+    public void testOpenWrongWidth() throws IOException {
+        arr.close();
+        MappedDynamicArray.open(file, ElementCodec.longs());
+    }
+}
@@ -0,0 +1,601 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Implementation of the DynamicArrayADT that stores its elements outside of the Java heap, in direct
+ * ByteBuffers, so that arrays with hundreds of millions of elements don't fill the heap with objects the
+ * garbage collector has to trace. Each element is translated to a fixed number of bytes by an ElementCodec.
+ * It grows, adds and removes elements the same way as DynamicArray, but null can't be stored.
+ * A single ByteBuffer can't be larger than 2 GiB, so the memory is split into segments of up to 1 GiB
+ * and no element crosses a segment. That lets the array hold up to Integer.MAX_VALUE elements of any width,
+ * as long as the JVM allows that much direct memory (see -XX:MaxDirectMemorySize). Growing keeps every
+ * full segment and only replaces the last one, so the elements in full segments are never copied again.
+ * Calling close(), or creating the array in a try-with-resources block, ends the array's lifetime, after
+ * which it can no longer be used. close() drops the array's references to the buffers, and the native memory is
+ * freed once the buffers become unreachable and are garbage collected, since a direct ByteBuffer can't be freed on demand.
+ * @param <T> the type of the OffHeapDynamicArray object must be specified when a new instance is declared.
+ */
+public class OffHeapDynamicArray<T> implements DynamicArrayADT<T>, AutoCloseable {
+    /**
+     * the largest number of bytes in one segment
+     */
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    /**
+     * the segments of off-heap memory holding the elements, or null once the array has been closed
+     */
+    private ByteBuffer[] segments;
+
+    /**
+     * the translator between elements and bytes
+     */
+    private ElementCodec<T> codec;
+
+    /**
+     * the number of bytes each element takes up
+     */
+    private int width;
+
+    /**
+     * the largest number of bytes in one segment, which results of the functional methods use as well
+     */
+    private int maxSegmentBytes;
+
+    /**
+     * the number of elements in each full segment
+     */
+    private int elementsPerSegment;
+
+    /**
+     * the number of elements the memory can hold
+     */
+    private int capacity;
+
+    /**
+     * the number of elements set in the array
+     */
+    private int size;
+
+    /**
+     * the strategy used to pick a new capacity when the memory runs out of room
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * the number of elements of another kind of DynamicArrayADT copied onto the heap at a time while they are inserted
+     */
+    private static final int COPY_BLOCK = 1024;
+
+    /**
+     * arrays at or below this capacity are never shrunk because the memory saved is not worth the copy
+     */
+    private static final int MIN_SHRINK_CAPACITY = 16;
+
+    /**
+     * Constructor for the OffHeapDynamicArray class. The memory doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     */
+    public OffHeapDynamicArray(int size, ElementCodec<T> codec) {
+        this(size, codec, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the OffHeapDynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param growthPolicy the strategy used to choose the new capacity when the memory fills up.
+     */
+    public OffHeapDynamicArray(int size, ElementCodec<T> codec, GrowthPolicy growthPolicy) {
+        this(size, codec, growthPolicy, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructor for an OffHeapDynamicArray with a specified segment size, which lets the tests use
+     * small segments to check elements being moved between them.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param codec the ElementCodec used to store the elements as bytes.
+     * @param growthPolicy the strategy used to choose the new capacity when the memory fills up.
+     * @param segmentBytes the largest number of bytes in one segment.
+     */
+    OffHeapDynamicArray(int size, ElementCodec<T> codec, GrowthPolicy growthPolicy, int segmentBytes) {
+        if (codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException("The codec must store each element in a positive number of bytes");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("The size cannot be negative");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.growthPolicy = growthPolicy;
+        this.maxSegmentBytes = segmentBytes;
+        this.elementsPerSegment = Math.max(1, segmentBytes / this.width);
+        this.segments = new ByteBuffer[0];
+        this.size = 0; // initialized to zero because no elements have been set yet
+        this.resize(size);
+    }
+
+    /**
+     * private method to allocate off-heap memory for a segment, using the native byte order
+     * so reading and writing multi-byte values doesn't have to swap bytes.
+     * @param bytes the number of bytes in the segment.
+     * @return the new buffer
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * private method to change the capacity of the memory. Segments that stay full are kept as they are,
+     * and only the last partial segment and any new ones are allocated, with the elements of a replaced
+     * segment copied into its replacement.
+     * @param newCapacity the number of elements the memory holds, which must be at least the size.
+     */
+    private void resize(int newCapacity) {
+        int numSegments = (int) (((long) newCapacity + this.elementsPerSegment - 1) / this.elementsPerSegment);
+        ByteBuffer[] newSegments = new ByteBuffer[numSegments];
+        for (int k = 0; k < numSegments; k++) {
+            int first = k * this.elementsPerSegment;
+            int length = Math.min(this.elementsPerSegment, newCapacity - first) * this.width;
+            if (k < this.segments.length && this.segments[k].capacity() == length) {
+                newSegments[k] = this.segments[k];
+            } else {
+                newSegments[k] = allocate(length);
+                int used = Math.max(0, Math.min(this.elementsPerSegment, this.size - first)) * this.width;
+                if (k < this.segments.length && used > 0) {
+                    newSegments[k].put(0, this.segments[k], 0, used);
+                }
+            }
+        }
+        this.segments = newSegments;
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * private method to return the segment holding a byte of the element data.
+     * @param position the position of the byte from the start of the element data.
+     * @return the segment the byte is in.
+     */
+    private ByteBuffer segmentAt(long position) {
+        return this.segments[(int) (position / this.segmentBytes())];
+    }
+
+    /**
+     * private method to return where a byte of the element data is within its segment.
+     * @param position the position of the byte from the start of the element data.
+     * @return the position of the byte within its segment.
+     */
+    private int offsetAt(long position) {
+        return (int) (position % this.segmentBytes());
+    }
+
+    /**
+     * private method for returning the number of bytes in each full segment, which is always a whole number of elements.
+     * @return the number of bytes in a full segment.
+     */
+    private int segmentBytes() {
+        return this.elementsPerSegment * this.width;
+    }
+
+    /**
+     * private method to read an element without checking the index.
+     * @param index the index of the element.
+     * @return the element stored at index.
+     */
+    private T read(int index) {
+        return this.codec.read(this.segments[index / this.elementsPerSegment], (index % this.elementsPerSegment) * this.width);
+    }
+
+    /**
+     * private method to move a block of element data, which may overlap itself and cross segments.
+     * The bytes are copied in pieces that each stay inside one source and one destination segment,
+     * working from the end when moving right so no byte is overwritten before it is copied.
+     * @param src the position of the first byte being moved.
+     * @param dest the position the first byte is moved to.
+     * @param len the number of bytes being moved.
+     */
+    private void moveBytes(long src, long dest, long len) {
+        if (len <= 0 || src == dest) {
+            return;
+        }
+        long segmentBytes = this.segmentBytes();
+        if (dest < src) {
+            long done = 0;
+            while (done < len) {
+                long s = src + done;
+                long d = dest + done;
+                long piece = Math.min(len - done, Math.min(segmentBytes - s % segmentBytes, segmentBytes - d % segmentBytes));
+                this.segmentAt(d).put(this.offsetAt(d), this.segmentAt(s), this.offsetAt(s), (int) piece);
+                done += piece;
+            }
+        } else {
+            long remaining = len;
+            while (remaining > 0) {
+                long sEnd = src + remaining;
+                long dEnd = dest + remaining;
+                long piece = Math.min(remaining, Math.min((sEnd - 1) % segmentBytes + 1, (dEnd - 1) % segmentBytes + 1));
+                this.segmentAt(dEnd - piece).put(this.offsetAt(dEnd - piece), this.segmentAt(sEnd - piece), this.offsetAt(sEnd - piece), (int) piece);
+                remaining -= piece;
+            }
+        }
+    }
+
+    /**
+     * private method to check that the array has not been closed, otherwise it will throw an IllegalStateException.
+     */
+    private void checkOpen() {
+        if (this.segments == null) {
+            throw new IllegalStateException("The array has been closed");
+        }
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this OffHeapDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * private method to write an element, which will throw an IllegalArgumentException if it is null.
+     * @param index the index the element is written to.
+     * @param val the element being written.
+     */
+    private void write(int index, T val) {
+        if (val == null) {
+            throw new IllegalArgumentException("An OffHeapDynamicArray can't store null");
+        }
+        this.codec.write(this.segments[index / this.elementsPerSegment], (index % this.elementsPerSegment) * this.width, val);
+    }
+
+    /**
+     * private method to copy a range of elements into another OffHeapDynamicArray with the same width.
+     * Copying bytes in blocks is much faster than decoding and encoding each element. The bytes are copied
+     * in pieces that each stay inside one segment of this array and one segment of dest.
+     * @param startIndex the first index being copied.
+     * @param endIndex the index just after the last one being copied.
+     * @param dest the array the elements are copied into.
+     * @param destIndex the index in dest where the first element goes.
+     */
+    private void copyRange(int startIndex, int endIndex, OffHeapDynamicArray<T> dest, int destIndex) {
+        long src = (long) startIndex * this.width;
+        long target = (long) destIndex * this.width;
+        long len = (long) (endIndex - startIndex) * this.width;
+        long srcSegment = this.segmentBytes();
+        long destSegment = dest.segmentBytes();
+        for (long done = 0; done < len; ) {
+            long s = src + done;
+            long d = target + done;
+            long piece = Math.min(len - done, Math.min(srcSegment - s % srcSegment, destSegment - d % destSegment));
+            dest.segmentAt(d).put(dest.offsetAt(d), this.segmentAt(s), this.offsetAt(s), (int) piece);
+            done += piece;
+        }
+    }
+
+    /**
+     * private method to check whether another OffHeapDynamicArray stores its elements as the same bytes,
+     * which is true when both use the same kind of codec.
+     * @param other the other OffHeapDynamicArray.
+     * @return true if the bytes of the other array can be copied without decoding them.
+     */
+    private boolean sameEncoding(OffHeapDynamicArray<T> other) {
+        return other.codec.getClass() == this.codec.getClass() && other.width == this.width;
+    }
+
+    // CAPACITY MANAGEMENT //
+
+    /**
+     * Method for returning the number of elements the OffHeapDynamicArray can hold before the memory has to grow.
+     * @return the capacity in elements.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Method to make sure the memory can hold at least a given number of elements without growing again.
+     * The growth policy's choice is clamped to Integer.MAX_VALUE elements, the most any array can index.
+     * If the JVM can't allocate the direct memory it will throw an OutOfMemoryError.
+     * @param minCapacity the number of elements the OffHeapDynamicArray should be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        this.checkOpen();
+        if (minCapacity <= this.capacity) {
+            return;
+        }
+        // a negative result from the policy means it overflowed, so min then max turns it into minCapacity
+        long newCapacity = Math.min((long) this.growthPolicy.grow(this.capacity, minCapacity), Integer.MAX_VALUE);
+        this.resize((int) Math.max(newCapacity, minCapacity));
+    }
+
+    /**
+     * Method to shrink the memory so its capacity matches the number of elements stored.
+     */
+    public void trimToSize() {
+        this.checkOpen();
+        if (this.capacity > this.size) {
+            this.resize(this.size);
+        }
+    }
+
+    /**
+     * Method to release the off-heap memory. After this, every method except size, capacity and close
+     * will throw an IllegalStateException. Closing an array more than once does nothing.
+     * The memory is handed back once the buffers are no longer reachable, since a direct ByteBuffer
+     * can't be freed on demand.
+     */
+    public void close() {
+        this.segments = null;
+        this.size = 0;
+        this.capacity = 0;
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the OffHeapDynamicArray.
+     * Setting the index equal to the size appends the value, the same as in DynamicArray.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index, which can't be null.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as appending the value
+            this.add(index, val);
+            return null;
+        }
+        T previousVal = this.read(index);
+        this.write(index, val);
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        this.checkOpen();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.read(index);
+    }
+
+    /**
+     * Method for returning the number of elements stored in an OffHeapDynamicArray object.
+     * @return the number of elements currently stored in the OffHeapDynamicArray object
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the OffHeapDynamicArray object, shifting the bytes of the elements
+     * after it to the right with one block copy in each segment.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element, which can't be null.
+     */
+    public void add(int index, T val) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        if (val == null) {
+            throw new IllegalArgumentException("An OffHeapDynamicArray can't store null");
+        }
+        this.ensureCapacity(this.size + 1);
+        long position = (long) index * this.width;
+        this.moveBytes(position, position + this.width, (long) (this.size - index) * this.width);
+        this.write(index, val);
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element from the OffHeapDynamicArray object, shifting the bytes of the elements
+     * after it to the left with one block copy in each segment. The memory shrinks to twice the size once less than a
+     * quarter of it is used, the same as DynamicArray.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        this.checkOpen();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        T removedElem = this.read(index);
+        long position = (long) index * this.width;
+        this.moveBytes(position + this.width, position, (long) (this.size - index - 1) * this.width);
+        this.size -= 1;
+        if (this.capacity > MIN_SHRINK_CAPACITY && this.size < this.capacity * DynamicArray.DEFAULT_SHRINK_THRESHOLD) {
+            this.resize(Math.max(this.size * 2, MIN_SHRINK_CAPACITY));
+        }
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this OffHeapDynamicArray,
+     * where the result is returned as a new OffHeapDynamicArray that uses the same codec.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new OffHeapDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public OffHeapDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into this OffHeapDynamicArray at
+     * a specified index. The result is returned as a new OffHeapDynamicArray that uses the same codec.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted into this current OffHeapDynamicArray.
+     * @return a new OffHeapDynamicArray which is the current one with the new elements inserted.
+     */
+    public OffHeapDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        this.checkOpen();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        OffHeapDynamicArray<T> resultArr = new OffHeapDynamicArray<T>(this.size + insertedVals, this.codec, this.growthPolicy, this.maxSegmentBytes);
+        this.copyRange(0, index, resultArr, 0);
+        if (newArray instanceof OffHeapDynamicArray && this.sameEncoding((OffHeapDynamicArray<T>) newArray)) {
+            OffHeapDynamicArray<T> other = (OffHeapDynamicArray<T>) newArray;
+            other.checkOpen();
+            other.copyRange(0, insertedVals, resultArr, index);
+        } else {
+            // other kinds of array are copied a block at a time, so a large one doesn't need a heap array as large
+            Object[] block = new Object[Math.min(insertedVals, COPY_BLOCK)];
+            for (int start = 0; start < insertedVals; start += block.length) {
+                int count = Math.min(block.length, insertedVals - start);
+                newArray.copyInto(start, block, 0, count);
+                for (int j = 0; j < count; j++) {
+                    @SuppressWarnings("unchecked")
+                    T val = (T) block[j];
+                    resultArr.write(index + start + j, val);
+                }
+            }
+        }
+        this.copyRange(index, this.size, resultArr, index + insertedVals);
+        resultArr.size = this.size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new OffHeapDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new OffHeapDynamicArray.
+     * @return A new OffHeapDynamicArray object of all the elements after and including the specified index.
+     */
+    public OffHeapDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new OffHeapDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new OffHeapDynamicArray.
+     * @return The new OffHeapDynamicArray made up of the separated out elements.
+     */
+    public OffHeapDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current OffHeapDynamicArray is not modified, and the result is returned as a new OffHeapDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new OffHeapDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public OffHeapDynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkOpen();
+        this.checkRange(startIndex, endIndex);
+        int remaining = this.size - (endIndex - startIndex);
+        OffHeapDynamicArray<T> resultArr = new OffHeapDynamicArray<T>(remaining, this.codec, this.growthPolicy, this.maxSegmentBytes);
+        this.copyRange(0, startIndex, resultArr, 0);
+        this.copyRange(endIndex, this.size, resultArr, startIndex);
+        resultArr.size = remaining;
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract from an OffHeapDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new OffHeapDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new OffHeapDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public OffHeapDynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkOpen();
+        this.checkRange(startIndex, endIndex);
+        int numVals = endIndex - startIndex;
+        OffHeapDynamicArray<T> extractArr = new OffHeapDynamicArray<T>(numVals, this.codec, this.growthPolicy, this.maxSegmentBytes);
+        this.copyRange(startIndex, endIndex, extractArr, 0);
+        extractArr.size = numVals;
+        return extractArr;
+    }
+
+    /**
+     * Method to copy a range of elements into an array, decoding them straight from each segment in turn
+     * instead of checking every index the way get does.
+     * If the range is outside of this OffHeapDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        this.checkOpen();
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        int end = srcPos + len;
+        int i = srcPos;
+        while (i < end) {
+            int k = i / this.elementsPerSegment;
+            ByteBuffer segment = this.segments[k];
+            int segmentEnd = (int) Math.min(end, (long) (k + 1) * this.elementsPerSegment);
+            for (int position = (i % this.elementsPerSegment) * this.width; i < segmentEnd; i++, position += this.width) {
+                dest[destPos + (i - srcPos)] = this.codec.read(segment, position);
+            }
+        }
+    }
+
+    /**
+     * Method to convert the OffHeapDynamicArray into a String representation of the object.
+     * @return a String representation of the OffHeapDynamicArray object
+     */
+    public String toString() {
+        this.checkOpen();
+        Object[] items = new Object[this.size];
+        this.copyInto(0, items, 0, this.size);
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(items[i]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
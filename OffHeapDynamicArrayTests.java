@@ -0,0 +1,186 @@
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of OffHeapDynamicArray, which stores its elements outside of the Java heap.
+ */
+public class OffHeapDynamicArrayTests {
+
+    private OffHeapDynamicArray<Character> a1;
+    private OffHeapDynamicArray<Character> a2;
+    private OffHeapDynamicArray<Character> empty;
+
+    /**
+     * Initializes OffHeapDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+        empty = stringToArray("");
+    }
+
+    /**
+     * Puts the characters of a string into an OffHeapDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public OffHeapDynamicArray<Character> stringToArray(String s) {
+        OffHeapDynamicArray<Character> result = new OffHeapDynamicArray<Character>(s.length(), ElementCodec.chars());
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests that add and remove shift the stored bytes correctly in both directions.
+     */
+    @Test
+    public void testMutableMethods() {
+        a1.add(2, 'm');
+        a1.add(0, 'n');
+        a1.add(a1.size(), 'o');
+        compareToString(a1, "nabmcdefo");
+        assertEquals(Character.valueOf('m'), a1.remove(3));
+        assertEquals(Character.valueOf('n'), a1.remove(0));
+        assertEquals(Character.valueOf('b'), a1.set(1, 'B'));
+        compareToString(a1, "aBcdefo");
+    }
+
+    /**
+     * Tests the functional methods, including mixing in an on-heap DynamicArray.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.append(a1), "abcdefabcdef");
+        compareToString(empty.append(a2), "wxyz");
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.extract(1, 3), "bc");
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(2), "cdef");
+        compareToString(a1.delete(1, 4), "aef");
+        DynamicArray<Character> onHeap = new DynamicArray<Character>(1);
+        onHeap.append('q');
+        compareToString(a1.insert(1, onHeap), "aqbcdef");
+        compareToString(a1, "abcdef");
+        assertEquals("[a, b, c, d, e, f]", a1.toString());
+    }
+
+    /**
+     * Tests adding, removing, growing and shrinking with segments of only 4 KiB, so elements have to be
+     * moved between segments, and copying into arrays whose segments are a different size.
+     */
+    @Test
+    public void testAcrossSegments() {
+        try (OffHeapDynamicArray<Integer> nums = new OffHeapDynamicArray<Integer>(0, ElementCodec.ints(), GrowthPolicy.doubling(), 4096)) {
+            for (int i = 0; i < 3000; i++) {
+                nums.add(nums.size(), i);
+            }
+            nums.add(0, -1);
+            nums.add(1500, -2);
+            assertEquals(Integer.valueOf(-1), nums.get(0));
+            assertEquals(Integer.valueOf(-2), nums.get(1500));
+            assertEquals(Integer.valueOf(2999), nums.get(3001));
+            assertEquals(Integer.valueOf(-2), nums.remove(1500));
+            assertEquals(Integer.valueOf(-1), nums.remove(0));
+            nums.trimToSize();
+            assertEquals(3000, nums.capacity());
+            for (int i = 0; i < 3000; i++) {
+                assertEquals(Integer.valueOf(i), nums.get(i));
+            }
+            OffHeapDynamicArray<Integer> big = new OffHeapDynamicArray<Integer>(0, ElementCodec.ints());
+            big.add(0, -3);
+            OffHeapDynamicArray<Integer> joined = big.insert(1, nums.delete(10, 2990));
+            assertEquals("[-3, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 2990, 2991, 2992, 2993, 2994, 2995, 2996, 2997, 2998, 2999]",
+                    joined.toString());
+            OffHeapDynamicArray<Integer> middle = nums.extract(1000, 2100);
+            assertEquals(1100, middle.size());
+            assertEquals(Integer.valueOf(2099), middle.get(1099));
+            for (int i = 0; i < 2900; i++) {
+                nums.remove(nums.size() - 1);
+            }
+            assertEquals(Integer.valueOf(99), nums.get(99));
+            assertTrue(nums.capacity() < 3000);
+        }
+    }
+
+    /**
+     * Tests copying a range into an array, and a DynamicArray inserting an OffHeapDynamicArray with block copies.
+     */
+    @Test
+    public void testCopyInto() {
+        Object[] dest = new Object[5];
+        a1.copyInto(1, dest, 1, 4);
+        assertArrayEquals(new Object[] { null, 'b', 'c', 'd', 'e' }, dest);
+        DynamicArray<Character> onHeap = new DynamicArray<Character>(1);
+        onHeap.append('q');
+        compareToString(onHeap.insert(1, a2), "qwxyz");
+        try {
+            a1.copyInto(3, dest, 0, 4);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests that a custom codec can store fixed-size records, here pairs of ints stored as an int[].
+     */
+    @Test
+    public void testRecordCodec() {
+        ElementCodec<int[]> pairs = new ElementCodec<int[]>() {
+            public int width() {
+                return 2 * Integer.BYTES;
+            }
+
+            public void write(ByteBuffer buffer, int position, int[] val) {
+                buffer.putInt(position, val[0]);
+                buffer.putInt(position + Integer.BYTES, val[1]);
+            }
+
+            public int[] read(ByteBuffer buffer, int position) {
+                return new int[] { buffer.getInt(position), buffer.getInt(position + Integer.BYTES) };
+            }
+        };
+        try (OffHeapDynamicArray<int[]> points = new OffHeapDynamicArray<int[]>(0, pairs)) {
+            for (int i = 0; i < 100; i++) {
+                points.add(0, new int[] { i, -i });
+            }
+            assertArrayEquals(new int[] { 99, -99 }, points.get(0));
+            assertArrayEquals(new int[] { 0, 0 }, points.get(99));
+        }
+    }
+
+    /**
+     * Tests that a closed array can't be used anymore.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() {
+        a1.close();
+        a1.get(0);
+    }
+
+    /**
+     * Tests that null can't be stored.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        a1.add(0, null);
+    }
+}
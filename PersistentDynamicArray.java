@@ -0,0 +1,731 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Implementation of the DynamicArrayADT built on a relaxed radix balanced tree (RRB tree).
+ * The elements are stored in leaves of up to 32 elements, and each branch node has up to 32 children.
+ * Branch nodes whose children aren't all full also keep a table of how many elements are stored under each child.
+ * Nodes are never changed after they are created, so any number of PersistentDynamicArrays can share the same nodes.
+ * Cutting a tree only copies the nodes along the cut, and joining two trees only copies and rebalances the
+ * nodes along the seam, merging nearly empty nodes so that the seam keeps at most EXTRA more nodes than it needs.
+ * That keeps the tree within a level or so of ceil(log32 n) high no matter how it was built, so the group 3
+ * functional methods are O(log n) instead of O(n) when both arrays are PersistentDynamicArrays: append, insert,
+ * delete, extract, splitPrefix and splitSuffix share every other node with the inputs, which are not modified.
+ * The constant is large, since a join can copy up to 64 nodes of 32 items at each level.
+ * get is O(log32 n), with at most a few extra steps at each level past a node that isn't full.
+ * The mutable methods also work this way, they just replace the tree held by this object.
+ * @param <T> the type of the PersistentDynamicArray object must be specified when a new instance is declared.
+ */
+public class PersistentDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the number of bits of an index used at each level of the tree
+     */
+    private static final int BITS = 5;
+
+    /**
+     * the largest number of elements in a leaf, or children in a branch node
+     */
+    private static final int BRANCHING = 1 << BITS;
+
+    /**
+     * the most nodes a seam may keep beyond the fewest that could hold their children after a concatenation,
+     * which bounds how far childIndex has to step past its first guess
+     */
+    private static final int EXTRA = 2;
+
+    /**
+     * the root of the tree holding the elements, which is null when there are no elements
+     */
+    private Node root;
+
+    /**
+     * the number of elements stored in the tree
+     */
+    private int size;
+
+    /**
+     * A node of the tree. Leaves have a height of 0 and hold elements, branch nodes hold child nodes
+     * that are all one level lower. Nodes are never modified after they are created.
+     */
+    private static final class Node {
+        /**
+         * the number of levels below this node, 0 for a leaf
+         */
+        private final int height;
+
+        /**
+         * the elements of a leaf, or the child nodes of a branch node
+         */
+        private final Object[] items;
+
+        /**
+         * for a relaxed branch node, sizes[j] is the number of elements stored in children 0 to j. It is null for
+         * a leaf, and for a branch node where every child but the last is full, since then the child holding
+         * an index is found from the bits of the index alone
+         */
+        private final int[] sizes;
+
+        /**
+         * the number of elements stored under this node
+         */
+        private final int size;
+
+        /**
+         * Constructor for a Node, which works out the size table for branch nodes that need one.
+         * @param height the number of levels below this node.
+         * @param items the elements of a leaf or the children of a branch node.
+         */
+        private Node(int height, Object[] items) {
+            this.height = height;
+            this.items = items;
+            if (height == 0) {
+                this.sizes = null;
+                this.size = items.length;
+                return;
+            }
+            int shift = BITS * height;
+            boolean regular = shift < Integer.SIZE - 1;
+            int[] table = new int[items.length];
+            int total = 0;
+            for (int j = 0; j < items.length; j++) {
+                int childSize = ((Node) items[j]).size;
+                if (j < items.length - 1 && (!regular || childSize != 1 << shift)) {
+                    regular = false;
+                }
+                total += childSize;
+                table[j] = total;
+            }
+            this.sizes = regular ? null : table;
+            this.size = total;
+        }
+
+        /**
+         * Method for returning the number of elements stored under this node.
+         * @return the number of elements in this subtree.
+         */
+        private int size() {
+            return this.size;
+        }
+
+        /**
+         * Method for finding the child of a branch node that holds a given index.
+         * The index divided by the most elements a child can hold is never past the right child,
+         * so the search starts there and only has to step forward past children that are not full.
+         * Concatenation keeps at most EXTRA more children than needed along every seam, so that is only a few steps.
+         * @param index an index in [0, size) of this node.
+         * @return the position of the child that holds the element at index.
+         */
+        private int childIndex(int index) {
+            int shift = BITS * this.height;
+            int j = shift < Integer.SIZE ? index >>> shift : 0;
+            if (this.sizes == null) {
+                return j;
+            }
+            while (this.sizes[j] <= index) {
+                j++;
+            }
+            return j;
+        }
+
+        /**
+         * Method for returning the number of elements stored in the children before a given child.
+         * @param j the position of the child.
+         * @return the number of elements stored in children 0 to j-1.
+         */
+        private int sizeBefore(int j) {
+            if (j == 0) {
+                return 0;
+            }
+            return this.sizes == null ? j << (BITS * this.height) : this.sizes[j - 1];
+        }
+
+        /**
+         * Method for returning the number of elements stored in the children up to and including a given child.
+         * @param j the position of the child.
+         * @return the number of elements stored in children 0 to j.
+         */
+        private int sizeThrough(int j) {
+            return j == this.items.length - 1 ? this.size : this.sizeBefore(j + 1);
+        }
+    }
+
+    /**
+     * Constructor for an empty PersistentDynamicArray.
+     */
+    public PersistentDynamicArray() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    /**
+     * Constructor for a PersistentDynamicArray that holds the same elements as another DynamicArrayADT.
+     * If the other array is also a PersistentDynamicArray this is O(1), because the tree is shared.
+     * @param arr the DynamicArrayADT whose elements are copied into the new PersistentDynamicArray.
+     */
+    public PersistentDynamicArray(DynamicArrayADT<T> arr) {
+        this(build(arr));
+    }
+
+    /**
+     * private constructor for a PersistentDynamicArray that holds an existing tree.
+     * @param root the root of the tree, or null for an empty array.
+     */
+    private PersistentDynamicArray(Node root) {
+        this.root = root;
+        this.size = root == null ? 0 : root.size();
+    }
+
+    // BUILDING, JOINING AND CUTTING TREES //
+
+    /**
+     * private method to build a tree holding the elements of a DynamicArrayADT,
+     * by filling leaves left to right and then grouping them into full branch nodes level by level.
+     * @param arr the DynamicArrayADT being copied.
+     * @return the root of the new tree, or null if arr is empty.
+     */
+    private static Node build(DynamicArrayADT<?> arr) {
+        if (arr instanceof PersistentDynamicArray) {
+            return ((PersistentDynamicArray<?>) arr).root; // nodes are never modified, so they can be shared
+        }
+        int numVals = arr.size();
+        if (numVals == 0) {
+            return null;
+        }
+        ArrayList<Node> level = new ArrayList<Node>();
+        for (int start = 0; start < numVals; start += BRANCHING) {
+            Object[] items = new Object[Math.min(BRANCHING, numVals - start)];
+            arr.copyInto(start, items, 0, items.length);
+            level.add(new Node(0, items));
+        }
+        int height = 0;
+        while (level.size() > 1) {
+            height += 1;
+            ArrayList<Node> parents = new ArrayList<Node>();
+            for (int start = 0; start < level.size(); start += BRANCHING) {
+                int end = Math.min(start + BRANCHING, level.size());
+                parents.add(new Node(height, level.subList(start, end).toArray()));
+            }
+            level = parents;
+        }
+        return level.get(0);
+    }
+
+    /**
+     * private method to join two trees so the elements of the second come after the elements of the first.
+     * Only the nodes along the right edge of the first tree and the left edge of the second are copied,
+     * and at each level the nodes along that seam are rebalanced so they hold no more than EXTRA nodes
+     * more than the fewest that could hold their children. This keeps the tree O(log n) high however
+     * many times arrays are cut and joined. Each level copies at most 64 nodes, so this is O(log n).
+     * @param left the root of the first tree, which may be null.
+     * @param right the root of the second tree, which may be null.
+     * @return the root of the joined tree.
+     */
+    private static Node concat(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return collapse(concatSubtree(left, right));
+    }
+
+    /**
+     * private method to join two subtrees. The shorter subtree is joined onto the edge of the taller one
+     * at the level where their heights match, and the seam is rebalanced on the way back up.
+     * @param left the first subtree.
+     * @param right the second subtree.
+     * @return a node one level higher than the taller subtree, with one or two children holding the elements of both.
+     */
+    private static Node concatSubtree(Node left, Node right) {
+        if (left.height > right.height) {
+            Node middle = concatSubtree((Node) left.items[left.items.length - 1], right);
+            return rebalance(left, middle, null);
+        }
+        if (left.height < right.height) {
+            Node middle = concatSubtree(left, (Node) right.items[0]);
+            return rebalance(null, middle, right);
+        }
+        if (left.height == 0) {
+            if (left.items.length + right.items.length <= BRANCHING) {
+                Object[] items = new Object[left.items.length + right.items.length];
+                System.arraycopy(left.items, 0, items, 0, left.items.length);
+                System.arraycopy(right.items, 0, items, left.items.length, right.items.length);
+                return new Node(1, new Object[] { new Node(0, items) });
+            }
+            return new Node(1, new Object[] { left, right });
+        }
+        Node middle = concatSubtree((Node) left.items[left.items.length - 1], (Node) right.items[0]);
+        return rebalance(left, middle, right);
+    }
+
+    /**
+     * private method to rebalance the children along a seam. The children of left except its last, the children
+     * of middle, and the children of right except its first are laid side by side, then underfull nodes are
+     * merged with the nodes after them until there are no more than EXTRA nodes beyond the fewest that
+     * could hold all of their items. Nodes that don't change are shared instead of copied.
+     * @param left the node on the left of the seam, or null if only the right side is this tall.
+     * @param middle the node returned by joining the edges below, at the same height as left and right.
+     * @param right the node on the right of the seam, or null if only the left side is this tall.
+     * @return a node one level higher than middle, with one or two children holding all of the nodes in order.
+     */
+    private static Node rebalance(Node left, Node middle, Node right) {
+        int leftCount = left == null ? 0 : left.items.length - 1;
+        int rightCount = right == null ? 0 : right.items.length - 1;
+        Object[] all = new Object[leftCount + middle.items.length + rightCount];
+        if (left != null) {
+            System.arraycopy(left.items, 0, all, 0, leftCount);
+        }
+        System.arraycopy(middle.items, 0, all, leftCount, middle.items.length);
+        if (right != null) {
+            System.arraycopy(right.items, 1, all, leftCount + middle.items.length, rightCount);
+        }
+        Object[] nodes = redistribute(all, concatPlan(all), middle.height - 1);
+        if (nodes.length <= BRANCHING) {
+            return new Node(middle.height + 1, new Object[] { new Node(middle.height, nodes) });
+        }
+        return new Node(middle.height + 1, new Object[] {
+            new Node(middle.height, Arrays.copyOfRange(nodes, 0, BRANCHING)),
+            new Node(middle.height, Arrays.copyOfRange(nodes, BRANCHING, nodes.length))
+        });
+    }
+
+    /**
+     * private method to work out how many items each node along a seam should hold.
+     * While there are more than EXTRA nodes beyond the fewest that could hold every item, the first node
+     * that is missing more than EXTRA / 2 items is emptied into the nodes after it, filling each of them,
+     * until one node has been absorbed completely and can be dropped.
+     * @param all the nodes along the seam, in order.
+     * @return the number of items in each node after rebalancing, in order.
+     */
+    private static int[] concatPlan(Object[] all) {
+        int[] counts = new int[all.length];
+        int total = 0;
+        for (int i = 0; i < all.length; i++) {
+            counts[i] = ((Node) all[i]).items.length;
+            total += counts[i];
+        }
+        int optimal = (total + BRANCHING - 1) / BRANCHING;
+        int length = all.length;
+        int i = 0;
+        while (length > optimal + EXTRA) {
+            while (counts[i] > BRANCHING - EXTRA / 2) {
+                i++;
+            }
+            int remaining = counts[i];
+            do {
+                int filled = Math.min(remaining + counts[i + 1], BRANCHING);
+                remaining += counts[i + 1] - filled;
+                counts[i] = filled;
+                i++;
+            } while (remaining > 0);
+            System.arraycopy(counts, i + 1, counts, i, length - i - 1);
+            length -= 1;
+            i -= 1;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    /**
+     * private method to build the nodes described by a plan from concatPlan, taking the items of the nodes
+     * along a seam in order. A node whose items already match the plan is reused as it is.
+     * @param all the nodes along the seam, in order.
+     * @param plan the number of items each new node holds.
+     * @param height the height of the nodes along the seam.
+     * @return the new nodes, in order.
+     */
+    private static Object[] redistribute(Object[] all, int[] plan, int height) {
+        Object[] nodes = new Object[plan.length];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < plan.length; k++) {
+            Node first = (Node) all[source];
+            if (offset == 0 && first.items.length == plan[k]) {
+                nodes[k] = first;
+                source += 1;
+                continue;
+            }
+            Object[] items = new Object[plan[k]];
+            int filled = 0;
+            while (filled < plan[k]) {
+                Node from = (Node) all[source];
+                int count = Math.min(plan[k] - filled, from.items.length - offset);
+                System.arraycopy(from.items, offset, items, filled, count);
+                filled += count;
+                offset += count;
+                if (offset == from.items.length) {
+                    source += 1;
+                    offset = 0;
+                }
+            }
+            nodes[k] = new Node(height, items);
+        }
+        return nodes;
+    }
+
+    /**
+     * private method to remove branch nodes with a single child from the top of a tree, so the tree stays short.
+     * @param node the root of the tree.
+     * @return the highest node that is a leaf or has more than one child.
+     */
+    private static Node collapse(Node node) {
+        while (node.height > 0 && node.items.length == 1) {
+            node = (Node) node.items[0];
+        }
+        return node;
+    }
+
+    /**
+     * private method to make a tree of the first elements of another tree.
+     * @param node the root of the tree being cut.
+     * @param count the number of elements to keep, in (0, size of node].
+     * @return the root of a tree of the first count elements, at the same height as node.
+     */
+    private static Node takeFront(Node node, int count) {
+        if (count == node.size()) {
+            return node;
+        }
+        if (node.height == 0) {
+            return new Node(0, Arrays.copyOf(node.items, count));
+        }
+        int j = node.childIndex(count - 1); // the child holding the last element that is kept
+        Object[] children = Arrays.copyOf(node.items, j + 1);
+        children[j] = takeFront((Node) node.items[j], count - node.sizeBefore(j));
+        return new Node(node.height, children);
+    }
+
+    /**
+     * private method to make a tree of the last elements of another tree.
+     * @param node the root of the tree being cut.
+     * @param count the number of elements to drop from the front, in [0, size of node).
+     * @return the root of a tree without the first count elements, at the same height as node.
+     */
+    private static Node dropFront(Node node, int count) {
+        if (count == 0) {
+            return node;
+        }
+        if (node.height == 0) {
+            return new Node(0, Arrays.copyOfRange(node.items, count, node.items.length));
+        }
+        int j = node.childIndex(count); // the child holding the first element that is kept
+        Object[] children = Arrays.copyOfRange(node.items, j, node.items.length);
+        children[0] = dropFront((Node) node.items[j], count - node.sizeBefore(j));
+        return new Node(node.height, children);
+    }
+
+    /**
+     * private method to make a tree of the elements from startIndex up until just before endIndex.
+     * Cutting leaves branch nodes with a single child at the top, which are removed so the tree stays short.
+     * @param root the root of the tree being cut.
+     * @param startIndex the first index being kept.
+     * @param endIndex the index just after the last one being kept.
+     * @return the root of the new tree, or null if no elements are kept.
+     */
+    private static Node slice(Node root, int startIndex, int endIndex) {
+        if (startIndex == endIndex) {
+            return null;
+        }
+        return collapse(dropFront(takeFront(root, endIndex), startIndex));
+    }
+
+    /**
+     * private method to make a copy of a tree with one element replaced, copying only the nodes along its path.
+     * @param node the root of the tree.
+     * @param index the index of the element being replaced.
+     * @param val the new value of the element.
+     * @return the root of the new tree.
+     */
+    private static Node setNode(Node node, int index, Object val) {
+        Object[] items = node.items.clone();
+        if (node.height == 0) {
+            items[index] = val;
+        } else {
+            int j = node.childIndex(index);
+            items[j] = setNode((Node) node.items[j], index - node.sizeBefore(j), val);
+        }
+        return new Node(node.height, items);
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this PersistentDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the PersistentDynamicArray.
+     * Setting the index equal to the size appends the value, the same as in DynamicArray.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as appending the value
+            this.add(index, val);
+            return null;
+        }
+        T previousVal = this.get(index);
+        this.root = setNode(this.root, index, val);
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        Node node = this.root;
+        int i = index;
+        while (node.height > 0) {
+            int j = node.childIndex(i);
+            i -= node.sizeBefore(j);
+            node = (Node) node.items[j];
+        }
+        return (T) node.items[i];
+    }
+
+    /**
+     * Method for returning the number of elements stored in a PersistentDynamicArray object.
+     * @return the number of elements currently stored in the PersistentDynamicArray object
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method for returning the number of levels in the tree, counting the leaves as one level.
+     * A tree of n elements with full nodes has ceil(log32 n) levels, and cutting and joining only adds a level
+     * when the extra nodes kept along the seams run out of room.
+     * @return the number of levels in the tree, or 0 if the PersistentDynamicArray is empty.
+     */
+    public int height() {
+        return this.root == null ? 0 : this.root.height + 1;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the PersistentDynamicArray object in O(log n) time, by cutting the tree
+     * at the index and joining the two halves back together around the new element.
+     * Adding at index size only joins the new element onto the right edge. Other PersistentDynamicArrays that share nodes with this one are not affected.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        Node single = new Node(0, new Object[] { val });
+        if (index == this.size) {
+            this.root = concat(this.root, single); // only the right edge of the tree is copied
+        } else {
+            Node prefix = slice(this.root, 0, index);
+            Node suffix = slice(this.root, index, this.size);
+            this.root = concat(concat(prefix, single), suffix);
+        }
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element from the PersistentDynamicArray object in O(log n) time, by cutting out
+     * the element and joining the two sides back together. Other PersistentDynamicArrays that share nodes with this one are not affected.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        T removedElem = this.get(index);
+        this.root = concat(slice(this.root, 0, index), slice(this.root, index + 1, this.size));
+        this.size -= 1;
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this PersistentDynamicArray,
+     * where the result is returned as a new PersistentDynamicArray. If newArray is also a
+     * PersistentDynamicArray this takes O(log n) time, otherwise its m elements are copied into a new tree first,
+     * which takes O(m) time.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new PersistentDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public PersistentDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return new PersistentDynamicArray<T>(concat(this.root, build(newArray)));
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into this PersistentDynamicArray at
+     * a specified index. The result is returned as a new PersistentDynamicArray object.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted into this current PersistentDynamicArray.
+     * @return a new PersistentDynamicArray which is the current one with the new elements inserted.
+     */
+    public PersistentDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Node prefix = slice(this.root, 0, index);
+        Node suffix = slice(this.root, index, this.size);
+        return new PersistentDynamicArray<T>(concat(concat(prefix, build(newArray)), suffix));
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new PersistentDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new PersistentDynamicArray.
+     * @return A new PersistentDynamicArray object of all the elements after and including the specified index.
+     */
+    public PersistentDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new PersistentDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new PersistentDynamicArray.
+     * @return The new PersistentDynamicArray made up of the separated out elements.
+     */
+    public PersistentDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex in O(log n) time,
+     * by cutting out the range and joining the two sides back together.
+     * The current PersistentDynamicArray is not modified, and the result is returned as a new PersistentDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new PersistentDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public PersistentDynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        Node prefix = slice(this.root, 0, startIndex);
+        Node suffix = slice(this.root, endIndex, this.size);
+        return new PersistentDynamicArray<T>(concat(prefix, suffix));
+    }
+
+    /**
+     * Method for taking an extract from a PersistentDynamicArray starting at a given index and ending
+     * just before an ending index in O(log n) time, which only copies the nodes along the two cuts.
+     * The result is returned as a new PersistentDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new PersistentDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public PersistentDynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        return new PersistentDynamicArray<T>(slice(this.root, startIndex, endIndex));
+    }
+
+    /**
+     * Method to copy a range of elements into an array, with one block copy for each leaf the range covers.
+     * If the range is outside of this PersistentDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len || destPos < 0 || destPos > dest.length - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        if (len > 0) {
+            copyLeaves(this.root, srcPos, srcPos + len, dest, destPos);
+        }
+    }
+
+    /**
+     * private method to copy the elements from startIndex up until just before endIndex of a subtree into an array.
+     * @param node the root of the subtree.
+     * @param startIndex the first index being copied, which is less than endIndex.
+     * @param endIndex the index just after the last one being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     */
+    private static void copyLeaves(Node node, int startIndex, int endIndex, Object[] dest, int destPos) {
+        if (node.height == 0) {
+            System.arraycopy(node.items, startIndex, dest, destPos, endIndex - startIndex);
+            return;
+        }
+        int j = node.childIndex(startIndex);
+        while (startIndex < endIndex) {
+            int before = node.sizeBefore(j);
+            int childEnd = Math.min(endIndex, node.sizeThrough(j));
+            copyLeaves((Node) node.items[j], startIndex - before, childEnd - before, dest, destPos);
+            destPos += childEnd - startIndex;
+            startIndex = childEnd;
+            j++;
+        }
+    }
+
+    /**
+     * Method to convert the PersistentDynamicArray into a String representation of the object.
+     * @return a String representation of the PersistentDynamicArray object
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        if (this.root != null) {
+            appendLeaves(this.root, result);
+            result.setLength(result.length() - 2); // get rid of the last whitespace and comma
+        }
+        result.append("]");
+        return result.toString();
+    }
+
+    /**
+     * private method to write the elements of a subtree, each followed by a comma, walking the leaves in order.
+     * @param node the root of the subtree.
+     * @param result the StringBuilder the elements are written to.
+     */
+    private static void appendLeaves(Node node, StringBuilder result) {
+        for (Object item : node.items) {
+            if (node.height == 0) {
+                result.append(item).append(", ");
+            } else {
+                appendLeaves((Node) item, result);
+            }
+        }
+    }
+}
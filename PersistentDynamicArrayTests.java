@@ -0,0 +1,197 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of PersistentDynamicArray, the RRB tree implementation of DynamicArrayADT.
+ */
+public class PersistentDynamicArrayTests {
+
+    private PersistentDynamicArray<Character> a1;
+    private PersistentDynamicArray<Character> a2;
+    private PersistentDynamicArray<Character> empty;
+
+    /**
+     * Initializes PersistentDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+        empty = stringToArray("");
+    }
+
+    /**
+     * Puts the characters of a string into a PersistentDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public PersistentDynamicArray<Character> stringToArray(String s) {
+        PersistentDynamicArray<Character> result = new PersistentDynamicArray<Character>();
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against an ArrayList.
+     */
+    public void compareToList(DynamicArrayADT<Integer> arr, ArrayList<Integer> expected) {
+        assertEquals("Array lengths are equal", expected.size(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("Elements are equal at index " + i, expected.get(i), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests the functional methods against the same cases as DynamicArrayTests,
+     * and that they don't modify the original arrays.
+     */
+    @Test
+    public void testFunctionalMethods() {
+        compareToString(a1.append(a2), "abcdefwxyz");
+        compareToString(a1.append(a1), "abcdefabcdef");
+        compareToString(empty.append(empty), "");
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.extract(1, 3), "bc");
+        compareToString(a1.extract(0, 0), "");
+        compareToString(a1.splitPrefix(2), "ab");
+        compareToString(a1.splitSuffix(2), "cdef");
+        compareToString(a1.delete(1, 4), "aef");
+        compareToString(a1, "abcdef");
+        compareToString(a2, "wxyz");
+        assertEquals("[a, b, c, d, e, f]", a1.toString());
+        assertEquals("[]", empty.toString());
+    }
+
+    /**
+     * Tests that arrays of other DynamicArrayADT types can be appended and inserted.
+     */
+    @Test
+    public void testMixedImplementations() {
+        DynamicArray<Character> other = new DynamicArray<Character>(2);
+        other.append('m');
+        other.append('n');
+        compareToString(a1.insert(3, other), "abcmndef");
+        compareToString(new PersistentDynamicArray<Character>(other).append(a2), "mnwxyz");
+    }
+
+    /**
+     * Tests that the mutable methods don't change arrays that share nodes with the one being modified.
+     */
+    @Test
+    public void testMutableMethodsArePersistent() {
+        PersistentDynamicArray<Character> copy = a1.extract(0, a1.size());
+        a1.set(0, 'A');
+        a1.add(3, 'm');
+        assertEquals(Character.valueOf('e'), a1.remove(5));
+        compareToString(a1, "Abcmdf");
+        compareToString(copy, "abcdef");
+    }
+
+    /**
+     * Tests a long random sequence of edits on a large array against an ArrayList,
+     * so that cutting and joining happens across many levels of the tree.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(210);
+        ArrayList<Integer> expected = new ArrayList<Integer>();
+        PersistentDynamicArray<Integer> arr = new PersistentDynamicArray<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            arr.add(i, i);
+            expected.add(i);
+        }
+        for (int step = 0; step < 2000; step++) {
+            int choice = random.nextInt(5);
+            int index = random.nextInt(expected.size() + 1);
+            if (choice == 0) {
+                arr.add(index, -step);
+                expected.add(index, -step);
+            } else if (choice == 1 && index < expected.size()) {
+                assertEquals(expected.remove(index), arr.remove(index));
+            } else if (choice == 2 && index < expected.size()) {
+                arr.set(index, step);
+                expected.set(index, step);
+            } else if (choice == 3) {
+                int end = index + random.nextInt(expected.size() - index + 1);
+                arr = arr.delete(index, end);
+                expected.subList(index, end).clear();
+            } else {
+                int end = index + random.nextInt(expected.size() - index + 1);
+                PersistentDynamicArray<Integer> piece = arr.extract(index, end);
+                ArrayList<Integer> expectedPiece = new ArrayList<Integer>(expected.subList(index, end));
+                int at = random.nextInt(expected.size() + 1);
+                arr = arr.insert(at, piece);
+                expected.addAll(at, expectedPiece);
+            }
+        }
+        compareToList(arr, expected);
+    }
+
+    /**
+     * Tests that the tree stays short when every element is added at the front, which cuts and joins
+     * along the left edge each time. 10^5 elements fit in 4 levels of full nodes.
+     */
+    @Test
+    public void testHeightAfterPrepends() {
+        PersistentDynamicArray<Integer> arr = new PersistentDynamicArray<Integer>();
+        int numVals = 100000;
+        for (int i = 0; i < numVals; i++) {
+            arr.add(0, i);
+        }
+        assertTrue("height " + arr.height(), arr.height() <= 5);
+        for (int i = 0; i < numVals; i += 997) {
+            assertEquals(Integer.valueOf(numVals - 1 - i), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests that the tree stays short when elements are added at random indicies,
+     * and that it still holds the same elements as an ArrayList with the same inserts.
+     */
+    @Test
+    public void testHeightAfterRandomInserts() {
+        PersistentDynamicArray<Integer> arr = new PersistentDynamicArray<Integer>();
+        ArrayList<Integer> expected = new ArrayList<Integer>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            arr.add(index, i);
+            expected.add(index, i);
+        }
+        assertTrue("height " + arr.height(), arr.height() <= 5);
+        compareToList(arr, expected);
+    }
+
+    /**
+     * Tests that invalid indicies throw an IndexOutOfBoundsException
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetBounds() {
+        a1.get(a1.size());
+    }
+
+    /**
+     * Tests that invalid ranges throw an IndexOutOfBoundsException
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractBounds() {
+        a1.extract(3, 1);
+    }
+}
@@ -0,0 +1,402 @@
+/**
+ * Implementation of the DynamicArrayADT as a ring buffer, for using an array as a queue or a deque.
+ * The elements start at a head index in the internal array and wrap around from the end back to the start,
+ * so adding or removing at either end only moves the head or the tail instead of shifting every element.
+ * add(0, val), remove(0), append and remove(size - 1) are amortized O(1), and get and set are still O(1)
+ * because an index only has to be shifted by the head and wrapped around.
+ * Adding or removing in the middle shifts whichever side of the index has fewer elements.
+ * @param <T> the type of the RingBufferDynamicArray object must be specified when a new instance is declared.
+ */
+public class RingBufferDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the internal array, which holds the elements starting at head and wrapping around past the end
+     */
+    private T[] buffer;
+
+    /**
+     * the index in the internal array of the first element
+     */
+    private int head;
+
+    /**
+     * the number of elements stored
+     */
+    private int size;
+
+    /**
+     * the strategy used to pick a new capacity when the internal array fills up
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Constructor for the RingBufferDynamicArray class. The internal array doubles in size whenever it fills up.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     */
+    public RingBufferDynamicArray(int size) {
+        this(size, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor for the RingBufferDynamicArray class which uses a specified growth policy.
+     * @param size an int that specifies the number of elements the object can store values in before it has to grow.
+     * @param growthPolicy the strategy used to choose the new capacity when the internal array fills up.
+     */
+    public RingBufferDynamicArray(int size, GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The growth policy cannot be null");
+        }
+        this.buffer = this.allocate(size);
+        this.head = 0;
+        this.size = 0; // initialized to zero because no elements have been set yet
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Constructor for a RingBufferDynamicArray holding the same elements as another DynamicArrayADT,
+     * starting at the beginning of the internal array.
+     * @param arr the DynamicArrayADT whose elements are copied into the new RingBufferDynamicArray.
+     */
+    public RingBufferDynamicArray(DynamicArrayADT<T> arr) {
+        this(arr.size());
+        arr.copyInto(0, this.buffer, 0, arr.size());
+        this.size = arr.size();
+    }
+
+    /**
+     * private method to allocate space for an array of generic type
+     * by first creating an array of type Object and then casting it to generic
+     * @param len the length of the generic type array
+     * @return the new generic array
+     */
+    @SuppressWarnings("unchecked")
+    private T[] allocate(int len) {
+        return (T[]) new Object[len];
+    }
+
+    /**
+     * private method for returning where an element is stored in the internal array.
+     * This is a subtraction instead of %, since the sum is always less than twice the capacity.
+     * @param index the index of the element, in [0, capacity).
+     * @return the index in the internal array.
+     */
+    private int position(int index) {
+        int position = this.head + index;
+        if (position >= this.buffer.length) {
+            position -= this.buffer.length;
+        }
+        return position;
+    }
+
+    /**
+     * private method to make sure the internal array has room for at least one more element.
+     * When it grows, the elements are unwrapped into the start of the new array.
+     */
+    private void ensureRoom() {
+        if (this.size < this.buffer.length) {
+            return;
+        }
+        int minCapacity = this.size + 1;
+        int newCapacity = this.growthPolicy.grow(this.buffer.length, minCapacity);
+        if (newCapacity < minCapacity) { // also covers overflow, where the policy result goes negative
+            newCapacity = minCapacity;
+        }
+        T[] newBuffer = this.allocate(newCapacity);
+        this.copyRange(0, this.size, newBuffer, 0);
+        this.buffer = newBuffer;
+        this.head = 0;
+    }
+
+    /**
+     * private method to copy the elements from startIndex up until just before endIndex into another array,
+     * using at most two block copies, one for each side of the wrap around.
+     * @param startIndex the first index being copied.
+     * @param endIndex the index just after the last one being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     */
+    private void copyRange(int startIndex, int endIndex, Object[] dest, int destPos) {
+        int len = endIndex - startIndex;
+        if (len == 0) {
+            return;
+        }
+        int start = this.position(startIndex);
+        int beforeWrap = Math.min(len, this.buffer.length - start);
+        System.arraycopy(this.buffer, start, dest, destPos, beforeWrap);
+        System.arraycopy(this.buffer, 0, dest, destPos + beforeWrap, len - beforeWrap);
+    }
+
+    /**
+     * private method to check that [startIndex, endIndex) is a valid range of this RingBufferDynamicArray.
+     * @param startIndex the first index in the range.
+     * @param endIndex the index just after the range.
+     */
+    private void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || startIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid starting index");
+        }
+        if (endIndex < 0 || endIndex > this.size) {
+            throw new IndexOutOfBoundsException("Invalid ending index");
+        }
+        if (endIndex < startIndex) {
+            throw new IndexOutOfBoundsException("The starting index must be lower than the ending index");
+        }
+    }
+
+    /**
+     * Method for returning the number of elements the RingBufferDynamicArray can hold before the internal array has to grow.
+     * @return the length of the internal array.
+     */
+    public int capacity() {
+        return this.buffer.length;
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index in the RingBufferDynamicArray.
+     * Setting the index equal to the size appends the value, the same as in DynamicArray.
+     * If the index is out of the valid range, [0, size]
+     * this method will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, which is null if the value was appended.
+     */
+    public T set(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (index == this.size) { // same thing as appending the value
+            this.append(val);
+            return null;
+        }
+        int position = this.position(index);
+        T previousVal = this.buffer[position];
+        this.buffer[position] = val;
+        return previousVal;
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size),
+     * this method will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.buffer[this.position(index)];
+    }
+
+    /**
+     * Method for returning the number of elements stored in a RingBufferDynamicArray object.
+     * @return the number of elements currently stored in the RingBufferDynamicArray object
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element to the RingBufferDynamicArray object. Adding at index 0 moves the head back by one,
+     * and adding at the size writes after the tail, so both are amortized O(1). Anywhere else, the elements on
+     * whichever side of the index is shorter are shifted by one.
+     * The valid range of indicies is [0, size], and any other index will throw an IndexOutOfBoundsException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        this.ensureRoom();
+        if (index < this.size - index) {
+            // move the head back and shift the elements before index one to the left
+            this.head = this.head == 0 ? this.buffer.length - 1 : this.head - 1;
+            for (int i = 0; i < index; i++) {
+                this.buffer[this.position(i)] = this.buffer[this.position(i + 1)];
+            }
+        } else {
+            // shift the elements from index on one to the right, into the free slot after the tail
+            for (int i = this.size; i > index; i--) {
+                this.buffer[this.position(i)] = this.buffer[this.position(i - 1)];
+            }
+        }
+        this.buffer[this.position(index)] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Overloaded append method that appends the new value onto the end of the current RingBufferDynamicArray.
+     * @param val the value being appended onto the RingBufferDynamicArray.
+     */
+    public void append(T val) {
+        this.ensureRoom();
+        this.buffer[this.position(this.size)] = val;
+        this.size += 1;
+    }
+
+    /**
+     * Method to remove an element from the RingBufferDynamicArray object. Removing index 0 moves the head forward
+     * by one, and removing the last element moves the tail back, so both are O(1). Anywhere else, the elements on
+     * whichever side of the index is shorter are shifted by one to close the hole.
+     * The valid range of indicies is [0, size), and any other index will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        T removedElem = this.buffer[this.position(index)];
+        if (index < this.size - 1 - index) {
+            // shift the elements before index one to the right, then move the head forward
+            for (int i = index; i > 0; i--) {
+                this.buffer[this.position(i)] = this.buffer[this.position(i - 1)];
+            }
+            this.buffer[this.head] = null; // clear the leftover slot so the element can be garbage collected
+            this.head = this.position(1);
+        } else {
+            // shift the elements after index one to the left
+            for (int i = index; i < this.size - 1; i++) {
+                this.buffer[this.position(i)] = this.buffer[this.position(i + 1)];
+            }
+            this.buffer[this.position(this.size - 1)] = null;
+        }
+        this.size -= 1;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+        return removedElem;
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this RingBufferDynamicArray,
+     * where the result is returned as a new RingBufferDynamicArray object.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new RingBufferDynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public RingBufferDynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.insert(this.size, newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT into this RingBufferDynamicArray at
+     * a specified index. The result is returned as a new RingBufferDynamicArray, starting at the beginning of its internal array.
+     * If the index is outside of the valid range, [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted into this current RingBufferDynamicArray.
+     * @return a new RingBufferDynamicArray which is the current one with the new elements inserted.
+     */
+    public RingBufferDynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int insertedVals = newArray.size();
+        RingBufferDynamicArray<T> resultArr = new RingBufferDynamicArray<T>(this.size + insertedVals, this.growthPolicy);
+        this.copyRange(0, index, resultArr.buffer, 0);
+        newArray.copyInto(0, resultArr.buffer, index, insertedVals);
+        this.copyRange(index, this.size, resultArr.buffer, index + insertedVals);
+        resultArr.size = this.size + insertedVals;
+        return resultArr;
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new RingBufferDynamicArray object.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the new RingBufferDynamicArray.
+     * @return A new RingBufferDynamicArray object of all the elements after and including the specified index.
+     */
+    public RingBufferDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(index, this.size);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new RingBufferDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out into the new RingBufferDynamicArray.
+     * @return The new RingBufferDynamicArray made up of the separated out elements.
+     */
+    public RingBufferDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        return this.extract(0, index);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current RingBufferDynamicArray is not modified, and the result is returned as a new RingBufferDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new RingBufferDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public RingBufferDynamicArray<T> delete(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        int remaining = this.size - (endIndex - startIndex);
+        RingBufferDynamicArray<T> resultArr = new RingBufferDynamicArray<T>(remaining, this.growthPolicy);
+        this.copyRange(0, startIndex, resultArr.buffer, 0);
+        this.copyRange(endIndex, this.size, resultArr.buffer, startIndex);
+        resultArr.size = remaining;
+        return resultArr;
+    }
+
+    /**
+     * Method for taking an extract from a RingBufferDynamicArray starting at a given index and ending just before an ending index.
+     * The result is returned as a new RingBufferDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new RingBufferDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public RingBufferDynamicArray<T> extract(int startIndex, int endIndex) {
+        this.checkRange(startIndex, endIndex);
+        int numVals = endIndex - startIndex;
+        RingBufferDynamicArray<T> extractArr = new RingBufferDynamicArray<T>(numVals, this.growthPolicy);
+        this.copyRange(startIndex, endIndex, extractArr.buffer, 0);
+        extractArr.size = numVals;
+        return extractArr;
+    }
+
+    /**
+     * Method to copy a range of elements into an array, with one block copy for each side of the wrap around.
+     * If the range is outside of this RingBufferDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        if (srcPos < 0 || len < 0 || srcPos > this.size - len) {
+            throw new IndexOutOfBoundsException("Invalid range");
+        }
+        this.copyRange(srcPos, srcPos + len, dest, destPos);
+    }
+
+    /**
+     * Method to convert the RingBufferDynamicArray into a String representation of the object.
+     * @return a String representation of the RingBufferDynamicArray object
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(this.buffer[this.position(i)]);
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
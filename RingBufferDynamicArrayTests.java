@@ -0,0 +1,117 @@
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of RingBufferDynamicArray, the ring buffer implementation of DynamicArrayADT.
+ */
+public class RingBufferDynamicArrayTests {
+
+    private RingBufferDynamicArray<Character> a1;
+    private RingBufferDynamicArray<Character> a2;
+
+    /**
+     * Initializes RingBufferDynamicArray instances to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into a RingBufferDynamicArray
+     * @param s the string being turned into an array
+     * @return the string object converted into an array
+     */
+    public RingBufferDynamicArray<Character> stringToArray(String s) {
+        RingBufferDynamicArray<Character> result = new RingBufferDynamicArray<Character>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            result.set(i, s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests using the array as a FIFO queue, which wraps around the internal array many times without growing.
+     */
+    @Test
+    public void testQueueWrapsAround() {
+        RingBufferDynamicArray<Integer> queue = new RingBufferDynamicArray<Integer>(8);
+        int next = 0;
+        for (int i = 0; i < 5; i++) {
+            queue.append(next++);
+        }
+        for (int expected = 0; expected < 1000; expected++) {
+            assertEquals(Integer.valueOf(expected), queue.remove(0));
+            queue.append(next++);
+        }
+        assertEquals(8, queue.capacity());
+        assertEquals("[1000, 1001, 1002, 1003, 1004]", queue.toString());
+    }
+
+    /**
+     * Tests the functional methods and adding at the front while the elements wrap around the end of the internal array.
+     */
+    @Test
+    public void testFunctionalMethodsWhenWrapped() {
+        a1.remove(0);
+        a1.remove(0);
+        a1.append('g');
+        a1.add(0, 'b');  // the head moves back, and the tail wraps around
+        compareToString(a1, "bcdefg");
+        compareToString(a1.insert(3, a2), "bcdwxyzefg");
+        compareToString(a1.append(a2), "bcdefgwxyz");
+        compareToString(a1.delete(1, 5), "bg");
+        compareToString(a1.extract(2, 6), "defg");
+        compareToString(a1.splitPrefix(3), "bcd");
+        compareToString(a1.splitSuffix(4), "fg");
+        compareToString(new DynamicArray<Character>(1).append(a1), "bcdefg");
+    }
+
+    /**
+     * Tests random adds and removes at both ends and in the middle against an ArrayList.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(21);
+        RingBufferDynamicArray<Integer> ring = new RingBufferDynamicArray<Integer>(0);
+        ArrayList<Integer> expected = new ArrayList<Integer>();
+        for (int step = 0; step < 5000; step++) {
+            int choice = random.nextInt(6);
+            if (choice == 0) {
+                ring.add(0, step);
+                expected.add(0, step);
+            } else if (choice == 1 && !expected.isEmpty()) {
+                assertEquals(expected.remove(0), ring.remove(0));
+            } else if (choice == 2 && !expected.isEmpty()) {
+                assertEquals(expected.remove(expected.size() - 1), ring.remove(ring.size() - 1));
+            } else if (choice == 3) {
+                int i = random.nextInt(expected.size() + 1);
+                ring.add(i, step);
+                expected.add(i, step);
+            } else if (choice == 4 && !expected.isEmpty()) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.remove(i), ring.remove(i));
+            } else {
+                ring.append(step);
+                expected.add(step);
+            }
+        }
+        assertEquals(expected.toString(), ring.toString());
+    }
+}
@@ -0,0 +1,391 @@
+import java.util.Comparator;
+
+/**
+ * Implementation of the DynamicArrayADT that keeps its elements sorted by a Comparator, on top of a DynamicArray.
+ * Because the elements are always in order, finding a value or the place a new value belongs is a binary search,
+ * O(log n), instead of a linear scan. insertSorted puts a value in its place, and mergeAll merges a whole sorted
+ * batch in with one pass from the back, so each existing element is moved at most once no matter how big the batch is.
+ * Equal elements keep the order they were added in.
+ * set and add only accept values that keep the elements in order, and throw an IllegalArgumentException otherwise.
+ * delete, extract, splitPrefix and splitSuffix keep the order, so they return SortedDynamicArrays,
+ * but append and insert can put elements anywhere, so they return plain DynamicArrays.
+ * @param <T> the type of the SortedDynamicArray object must be specified when a new instance is declared.
+ */
+public class SortedDynamicArray<T> implements DynamicArrayADT<T> {
+    /**
+     * the elements in sorted order
+     */
+    private DynamicArray<T> elements;
+
+    /**
+     * the ordering of the elements
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Constructor for an empty SortedDynamicArray.
+     * If the comparator is null, it will throw an IllegalArgumentException.
+     * @param comparator the ordering the elements are kept in.
+     */
+    public SortedDynamicArray(Comparator<? super T> comparator) {
+        this(new DynamicArray<T>(0), comparator);
+    }
+
+    /**
+     * Constructor for a SortedDynamicArray holding the elements of another DynamicArrayADT, which are sorted first.
+     * If the comparator is null, it will throw an IllegalArgumentException.
+     * @param arr the DynamicArrayADT whose elements are copied in.
+     * @param comparator the ordering the elements are kept in.
+     */
+    public SortedDynamicArray(DynamicArrayADT<T> arr, Comparator<? super T> comparator) {
+        this(new DynamicArray<T>(0).append(arr).sort(comparator), comparator);
+    }
+
+    /**
+     * private constructor for a SortedDynamicArray that takes ownership of a DynamicArray that is already sorted.
+     * @param elements the sorted elements.
+     * @param comparator the ordering the elements are kept in.
+     */
+    private SortedDynamicArray(DynamicArray<T> elements, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("The comparator cannot be null");
+        }
+        this.elements = elements;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Method for returning the Comparator the elements are sorted by.
+     * @return the comparator.
+     */
+    public Comparator<? super T> comparator() {
+        return this.comparator;
+    }
+
+    // SORTED OPERATIONS //
+
+    /**
+     * Method for finding a value with a binary search.
+     * The return value follows Arrays.binarySearch, so a negative result tells where the value would go.
+     * If the value is stored more than once, the lowest index is returned.
+     * @param key the value being searched for.
+     * @return the index of the first element equal to key by the comparator, or (-(insertion point) - 1) if there isn't one,
+     * where the insertion point is the index of the first element greater than key.
+     */
+    public int binarySearch(T key) {
+        int position = this.lowerBound(key);
+        if (position < this.elements.size() && this.comparator.compare(this.elements.get(position), key) == 0) {
+            return position;
+        }
+        return -position - 1;
+    }
+
+    /**
+     * Method to add a value in its sorted place, after any elements equal to it.
+     * Finding the place is O(log n), and the elements after it are shifted with one block copy.
+     * @param val the value being added.
+     * @return the index the value was stored at.
+     */
+    public int insertSorted(T val) {
+        int position = this.upperBound(val);
+        this.elements.add(position, val);
+        return position;
+    }
+
+    /**
+     * Method to merge a batch of values that is already sorted by the same comparator into this SortedDynamicArray.
+     * Rather than inserting each value separately, the internal array grows once and the two sorted sequences are
+     * merged from the back, so this is O(n + m) instead of O(n * m). Values from the batch go after equal elements.
+     * If the batch is not sorted, it will throw an IllegalArgumentException and this SortedDynamicArray is not changed.
+     * @param batch the sorted values being merged in.
+     */
+    public void mergeAll(DynamicArrayADT<T> batch) {
+        int numVals = this.elements.size();
+        int batchVals = batch.size();
+        Object[] incoming = new Object[batchVals];
+        batch.copyInto(0, incoming, 0, batchVals);
+        for (int j = 1; j < batchVals; j++) {
+            if (this.compareAt(incoming, j - 1, j) > 0) {
+                throw new IllegalArgumentException("The batch being merged is not sorted");
+            }
+        }
+
+        this.elements.ensureCapacity(numVals + batchVals);
+        for (int j = 0; j < batchVals; j++) {
+            this.elements.append((T) null); // make room at the end, these slots are all overwritten below
+        }
+        int i = numVals - 1;
+        int j = batchVals - 1;
+        for (int dest = numVals + batchVals - 1; j >= 0; dest--) {
+            T next = this.cast(incoming[j]);
+            if (i >= 0 && this.comparator.compare(this.elements.get(i), next) > 0) {
+                this.elements.set(dest, this.elements.get(i)); // the existing element is bigger, so it goes last
+                i -= 1;
+            } else {
+                this.elements.set(dest, next);
+                j -= 1;
+            }
+        }
+    }
+
+    /**
+     * Method for returning the elements that are at least fromKey and less than toKey, found with two binary searches.
+     * The result is returned as a new SortedDynamicArray, like extract.
+     * If fromKey is greater than toKey, it will throw an IllegalArgumentException.
+     * @param fromKey the smallest value included.
+     * @param toKey the value just past the largest one included.
+     * @return a new SortedDynamicArray of the elements in [fromKey, toKey).
+     */
+    public SortedDynamicArray<T> range(T fromKey, T toKey) {
+        if (this.comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey must not be greater than toKey");
+        }
+        return this.extract(this.lowerBound(fromKey), this.lowerBound(toKey));
+    }
+
+    /**
+     * Method for returning the elements less than toKey as a new SortedDynamicArray.
+     * @param toKey the value just past the largest one included.
+     * @return a new SortedDynamicArray of the elements less than toKey.
+     */
+    public SortedDynamicArray<T> headRange(T toKey) {
+        return this.extract(0, this.lowerBound(toKey));
+    }
+
+    /**
+     * Method for returning the elements that are at least fromKey as a new SortedDynamicArray.
+     * @param fromKey the smallest value included.
+     * @return a new SortedDynamicArray of the elements greater than or equal to fromKey.
+     */
+    public SortedDynamicArray<T> tailRange(T fromKey) {
+        return this.extract(this.lowerBound(fromKey), this.elements.size());
+    }
+
+    /**
+     * private method for finding the index of the first element that is not less than key.
+     * @param key the value being searched for.
+     * @return the index of the first element greater than or equal to key, or size if there isn't one.
+     */
+    private int lowerBound(T key) {
+        int lo = 0;
+        int hi = this.elements.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.comparator.compare(this.elements.get(mid), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * private method for finding the index of the first element that is greater than key.
+     * @param key the value being searched for.
+     * @return the index of the first element greater than key, or size if there isn't one.
+     */
+    private int upperBound(T key) {
+        int lo = 0;
+        int hi = this.elements.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.comparator.compare(this.elements.get(mid), key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * private method to compare two values of an Object array with the comparator.
+     * @param items the array.
+     * @param a the index of the first value.
+     * @param b the index of the second value.
+     * @return the result of comparing the first value to the second.
+     */
+    private int compareAt(Object[] items, int a, int b) {
+        return this.comparator.compare(this.cast(items[a]), this.cast(items[b]));
+    }
+
+    /**
+     * private method to cast an element copied out with copyInto back to its type.
+     * @param item the element.
+     * @return the same element as a T.
+     */
+    @SuppressWarnings("unchecked")
+    private T cast(Object item) {
+        return (T) item;
+    }
+
+    /**
+     * private method to check that a value can go at an index without breaking the sorted order.
+     * @param index the index the value would be stored at.
+     * @param val the value.
+     * @param replacing true if the value replaces the element at index, false if it is inserted before it.
+     */
+    private void checkOrder(int index, T val, boolean replacing) {
+        int next = replacing ? index + 1 : index;
+        boolean fitsBefore = index == 0 || this.comparator.compare(this.elements.get(index - 1), val) <= 0;
+        boolean fitsAfter = next >= this.elements.size() || this.comparator.compare(val, this.elements.get(next)) <= 0;
+        if (!fitsBefore || !fitsAfter) {
+            throw new IllegalArgumentException("The value would break the sorted order");
+        }
+    }
+
+    // GROUP ONE METHODS: BUILT IN FUNCTIONALITY FOR ARRAY //
+
+    /**
+     * Method to set an element at a specified index, as long as the elements stay sorted.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException,
+     * and if the value doesn't belong at that index, it will throw an IllegalArgumentException.
+     * @param index the index of the element being set
+     * @param val the value being stored in the specified index.
+     * @return the value previously stored in that element, or null if it was appended.
+     */
+    public T set(int index, T val) {
+        if (index < 0 || index > this.elements.size()) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        this.checkOrder(index, val, true);
+        return this.elements.set(index, val);
+    }
+
+    /**
+     * Method to access a value stored in a specified index.
+     * If the index is outside of the valid range of indicies, [0, size), it will throw an IndexOutOfBoundsException
+     * @param index the index of the element being accessed.
+     * @return the value stored in the specified element.
+     */
+    public T get(int index) {
+        return this.elements.get(index);
+    }
+
+    /**
+     * Method for returning the number of elements stored in the SortedDynamicArray.
+     * @return the number of elements currently stored.
+     */
+    public int size() {
+        return this.elements.size();
+    }
+
+    // GROUP 2 : MUTABLE METHODS //
+
+    /**
+     * Method to add an element at a specified index, as long as the elements stay sorted. insertSorted finds the index itself.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException,
+     * and if the value doesn't belong at that index, it will throw an IllegalArgumentException.
+     * @param index The index where the new element is being inserted.
+     * @param val the value being stored at the newly created element.
+     */
+    public void add(int index, T val) {
+        if (index < 0 || index > this.elements.size()) {
+            throw new IndexOutOfBoundsException("Invalid Index");
+        }
+        this.checkOrder(index, val, false);
+        this.elements.add(index, val);
+    }
+
+    /**
+     * Method to remove an element. Removing never breaks the sorted order.
+     * If the index is outside of the range [0, size), it will throw an IndexOutOfBoundsException.
+     * @param index the index of the element being removed
+     * @return returns the value that was stored in the removed index
+     */
+    public T remove(int index) {
+        return this.elements.remove(index);
+    }
+
+    // GROUP 3 METHODS : FUNCTIONAL STYLE //
+
+    /**
+     * Method to concatenate another DynamicArrayADT onto the end of this SortedDynamicArray. The result might not
+     * be sorted, so it is returned as a new plain DynamicArray. mergeAll combines two sorted arrays instead.
+     * @param newArray The DynamicArrayADT being concatenated onto the end of this current object
+     * @return a new DynamicArray which is the result of concatenating newArray onto the end of this one.
+     */
+    public DynamicArray<T> append(DynamicArrayADT<T> newArray) {
+        return this.elements.append(newArray);
+    }
+
+    /**
+     * Method for inserting the elements of another DynamicArrayADT at a specified index. The result might not
+     * be sorted, so it is returned as a new plain DynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the new elements will be inserted.
+     * @param newArray the DynamicArrayADT being inserted.
+     * @return a new DynamicArray which is the current one with the new elements inserted.
+     */
+    public DynamicArray<T> insert(int index, DynamicArrayADT<T> newArray) {
+        return this.elements.insert(index, newArray);
+    }
+
+    /**
+     * Method for returning the elements from a specified index and after as a new SortedDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where the split begins, and this index is included in the result.
+     * @return A new SortedDynamicArray of all the elements after and including the specified index.
+     */
+    public SortedDynamicArray<T> splitSuffix(int index) {
+        return new SortedDynamicArray<T>(this.elements.splitSuffix(index), this.comparator);
+    }
+
+    /**
+     * Method for separating out the elements before, but not including, a specified index,
+     * and returning those elements as a new SortedDynamicArray.
+     * If the index is outside of the range [0, size], it will throw an IndexOutOfBoundsException.
+     * @param index the index where all the elements before it are separated out.
+     * @return The new SortedDynamicArray made up of the separated out elements.
+     */
+    public SortedDynamicArray<T> splitPrefix(int index) {
+        return new SortedDynamicArray<T>(this.elements.splitPrefix(index), this.comparator);
+    }
+
+    /**
+     * Method for removing the elements from startIndex up until just before endIndex.
+     * The current SortedDynamicArray is not modified, and the result is returned as a new SortedDynamicArray.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the starting index of the section being removed, this element is also removed.
+     * @param endIndex the ending index of the section being removed, this element is kept.
+     * @return A new SortedDynamicArray where elements from startIndex until just before endIndex have been removed.
+     */
+    public SortedDynamicArray<T> delete(int startIndex, int endIndex) {
+        return new SortedDynamicArray<T>(this.elements.delete(startIndex, endIndex), this.comparator);
+    }
+
+    /**
+     * Method for taking an extract starting at a given index and ending just before an ending index.
+     * The result is returned as a new SortedDynamicArray and the current one remains unaltered.
+     * If either index is outside of the range [0, size], or endIndex is less than startIndex,
+     * it will throw an IndexOutOfBoundsException.
+     * @param startIndex the beginning of the extract, this index will be included in the result
+     * @param endIndex the ending index of the extract, the element at this index is not included in the result.
+     * @return a new SortedDynamicArray consisting of the elements from startIndex until just before endIndex.
+     */
+    public SortedDynamicArray<T> extract(int startIndex, int endIndex) {
+        return new SortedDynamicArray<T>(this.elements.extract(startIndex, endIndex), this.comparator);
+    }
+
+    /**
+     * Method to copy a range of elements into an array with a single block copy.
+     * If the range is outside of this SortedDynamicArray or outside of dest, it will throw an IndexOutOfBoundsException.
+     * @param srcPos the index of the first element being copied.
+     * @param dest the array the elements are copied into.
+     * @param destPos the index in dest where the first element goes.
+     * @param len the number of elements being copied.
+     */
+    public void copyInto(int srcPos, Object[] dest, int destPos, int len) {
+        this.elements.copyInto(srcPos, dest, destPos, len);
+    }
+
+    /**
+     * Method to convert the SortedDynamicArray into a String representation of the object.
+     * @return a String representation of the SortedDynamicArray object
+     */
+    public String toString() {
+        return this.elements.toString();
+    }
+}
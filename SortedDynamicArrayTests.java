@@ -0,0 +1,122 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Class to test the methods of SortedDynamicArray, which keeps its elements in order.
+ */
+public class SortedDynamicArrayTests {
+
+    private SortedDynamicArray<Character> a1;
+
+    /**
+     * Initializes a SortedDynamicArray to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("fbdace");
+    }
+
+    /**
+     * Puts the characters of a string into a SortedDynamicArray, which sorts them.
+     * @param s the string being turned into an array
+     * @return the string object converted into a sorted array
+     */
+    public SortedDynamicArray<Character> stringToArray(String s) {
+        DynamicArray<Character> chars = new DynamicArray<Character>(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            chars.append(s.charAt(i));
+        }
+        return new SortedDynamicArray<Character>(chars, Comparator.naturalOrder());
+    }
+
+    /**
+     * Compares the size and each element in a DynamicArrayADT against those in a string.
+     */
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+
+    /**
+     * Tests binarySearch, insertSorted and the range queries.
+     */
+    @Test
+    public void testSearchAndRanges() {
+        compareToString(a1, "abcdef");
+        assertEquals(3, a1.binarySearch('d'));
+        assertEquals(4, a1.insertSorted('d')); // goes after the equal element
+        assertEquals(1, a1.binarySearch('b'));
+        a1.insertSorted('b');
+        assertEquals(1, a1.binarySearch('b')); // the first of the equal elements
+        assertEquals(-1, a1.binarySearch('0'));
+        assertEquals(-9, a1.binarySearch('z'));
+        compareToString(a1, "abbcddef");
+        compareToString(a1.range('b', 'e'), "bbcdd");
+        compareToString(a1.range('c', 'c'), "");
+        compareToString(a1.headRange('c'), "abb");
+        compareToString(a1.tailRange('d'), "ddef");
+    }
+
+    /**
+     * Tests that set and add only accept values that keep the order.
+     */
+    @Test
+    public void testOrderIsKept() {
+        a1.set(2, 'b');
+        a1.add(0, 'a');
+        a1.set(a1.size(), 'z');
+        compareToString(a1, "aabbdefz");
+        try {
+            a1.set(2, 'y');
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            a1.add(0, 'q');
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        compareToString(a1, "aabbdefz");
+    }
+
+    /**
+     * Tests that mergeAll gives the same result as sorting everything, and rejects a batch that isn't sorted.
+     */
+    @Test
+    public void testMergeAll() {
+        Random random = new Random(11);
+        SortedDynamicArray<Integer> sorted = new SortedDynamicArray<Integer>(Integer::compare);
+        ArrayList<Integer> expected = new ArrayList<Integer>();
+        for (int round = 0; round < 20; round++) {
+            DynamicArray<Integer> batch = new DynamicArray<Integer>(0);
+            int batchSize = random.nextInt(50);
+            for (int i = 0; i < batchSize; i++) {
+                int val = random.nextInt(100);
+                batch.append(val);
+                expected.add(val);
+            }
+            sorted.mergeAll(batch.sort(null));
+            Collections.sort(expected);
+            assertEquals(expected.toString(), sorted.toString());
+        }
+
+        try {
+            sorted.mergeAll(stringToArray("ab").append(stringToArray("a")).map(c -> (int) c));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(expected.toString(), sorted.toString());
+    }
+}
@@ -0,0 +1,108 @@
+import bench.ScanWorkload;
+
+/**
+ * Implementation of the benchmark ScanWorkload, which holds a CharDynamicArray and a DynamicArray&lt;Character&gt;
+ * with the same elements, and an equal copy of each for equals.
+ */
+public class CharScanWorkload implements ScanWorkload {
+    /**
+     * the unboxed array being scanned
+     */
+    private CharDynamicArray chars;
+
+    /**
+     * an equal copy of chars
+     */
+    private CharDynamicArray charsCopy;
+
+    /**
+     * the boxed array being scanned
+     */
+    private DynamicArray<Character> boxed;
+
+    /**
+     * an equal copy of boxed
+     */
+    private DynamicArray<Character> boxedCopy;
+
+    /**
+     * Method to build the arrays, filled with lowercase letters so 'z' + 1 is never found.
+     * @param size the number of elements in each array.
+     */
+    public void setUp(int size) {
+        this.chars = new CharDynamicArray(size);
+        for (int i = 0; i < size; i++) {
+            this.chars.append((char) ('a' + i % 26));
+        }
+        this.charsCopy = new CharDynamicArray(this.chars);
+        this.boxed = this.chars.toDynamicArray();
+        this.boxedCopy = new DynamicArray<Character>(this.boxed);
+    }
+
+    public int indexOf() {
+        return this.chars.indexOf('{');
+    }
+
+    public int indexOfByGet() {
+        for (int i = 0; i < this.boxed.size(); i++) {
+            if (this.boxed.get(i) == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int count() {
+        return this.chars.count('e');
+    }
+
+    public int countByGet() {
+        int count = 0;
+        for (int i = 0; i < this.boxed.size(); i++) {
+            if (this.boxed.get(i) == 'e') {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    public boolean equalsOp() {
+        return this.chars.equals(this.charsCopy);
+    }
+
+    public boolean equalsByGet() {
+        if (this.boxed.size() != this.boxedCopy.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.boxed.size(); i++) {
+            if (!this.boxed.get(i).equals(this.boxedCopy.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCodeOp() {
+        return this.chars.hashCode();
+    }
+
+    public int hashCodeByGet() {
+        int hash = 1;
+        for (int i = 0; i < this.boxed.size(); i++) {
+            hash = 31 * hash + this.boxed.get(i);
+        }
+        return hash;
+    }
+
+    public int fill() {
+        this.chars.fill(0, this.chars.size(), 'q');
+        return this.chars.size();
+    }
+
+    public int fillBySet() {
+        for (int i = 0; i < this.boxed.size(); i++) {
+            this.boxed.set(i, 'q');
+        }
+        return this.boxed.size();
+    }
+}
@@ -0,0 +1,179 @@
+import java.util.Random;
+
+import bench.Workload;
+
+/**
+ * Implementation of the benchmark Workload, which holds one DynamicArrayADT and the indicies the operations use.
+ * The indicies are worked out ahead of time so that the benchmarks only measure the array itself.
+ */
+public class DynamicArrayWorkload implements Workload {
+    /**
+     * the number of precomputed indicies, which is a power of two so the next one can be picked with a mask
+     */
+    private static final int NUM_INDICES = 1 << 12;
+
+    /**
+     * the array being measured
+     */
+    private DynamicArrayADT<Integer> arr;
+
+    /**
+     * an array a tenth of the size, used by append and insert
+     */
+    private DynamicArrayADT<Integer> other;
+
+    /**
+     * the indicies the operations are performed at, each in [0, size)
+     */
+    private int[] indices;
+
+    /**
+     * the position of the next index to use
+     */
+    private int next;
+
+    /**
+     * the number of elements in the array
+     */
+    private int size;
+
+    /**
+     * the length of the ranges used by extract and delete
+     */
+    private int window;
+
+    /**
+     * private method to make an empty array of the named implementation.
+     * @param implementation the simple name of the DynamicArrayADT class.
+     * @param capacity the number of elements to leave room for.
+     * @return the new, empty array.
+     */
+    private static DynamicArrayADT<Integer> create(String implementation, int capacity) {
+        switch (implementation) {
+            case "DynamicArray":
+                return new DynamicArray<Integer>(capacity);
+            case "PersistentDynamicArray":
+                return new PersistentDynamicArray<Integer>();
+            case "GapBufferDynamicArray":
+                return new GapBufferDynamicArray<Integer>(capacity);
+            case "OffHeapDynamicArray":
+                return new OffHeapDynamicArray<Integer>(capacity, ElementCodec.ints());
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + implementation);
+        }
+    }
+
+    /**
+     * private method to make an array of the named implementation holding 0 to size-1.
+     * @param implementation the simple name of the DynamicArrayADT class.
+     * @param size the number of elements.
+     * @return the new array.
+     */
+    private static DynamicArrayADT<Integer> fill(String implementation, int size) {
+        DynamicArrayADT<Integer> result = create(implementation, size);
+        for (int i = 0; i < size; i++) {
+            result.add(i, i);
+        }
+        return result;
+    }
+
+    /**
+     * Method to build the array being measured and the indicies the operations use.
+     * @param implementation the simple name of the DynamicArrayADT class, like "DynamicArray".
+     * @param size the number of elements in the array.
+     * @param distribution where the indicies fall: "random", "head" or "tail".
+     */
+    public void setUp(String implementation, int size, String distribution) {
+        this.size = size;
+        this.window = Math.max(1, size / 10);
+        this.arr = fill(implementation, size);
+        this.other = fill(implementation, this.window);
+        this.indices = new int[NUM_INDICES];
+        Random random = new Random(210);
+        for (int k = 0; k < NUM_INDICES; k++) {
+            switch (distribution) {
+                case "random":
+                    this.indices[k] = random.nextInt(size);
+                    break;
+                case "head":
+                    this.indices[k] = 0;
+                    break;
+                case "tail":
+                    this.indices[k] = size - 1;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution " + distribution);
+            }
+        }
+    }
+
+    /**
+     * Method to release anything the arrays hold outside the heap.
+     */
+    public void tearDown() {
+        if (this.arr instanceof OffHeapDynamicArray) {
+            ((OffHeapDynamicArray<Integer>) this.arr).close();
+            ((OffHeapDynamicArray<Integer>) this.other).close();
+        }
+    }
+
+    /**
+     * private method to return the next index from the distribution.
+     * @return an index in [0, size).
+     */
+    private int nextIndex() {
+        int index = this.indices[this.next];
+        this.next = (this.next + 1) & (NUM_INDICES - 1);
+        return index;
+    }
+
+    public Object set() {
+        int index = this.nextIndex();
+        return this.arr.set(index, index);
+    }
+
+    public Object get() {
+        return this.arr.get(this.nextIndex());
+    }
+
+    public Object add() {
+        this.arr.add(this.nextIndex(), -1);
+        return this.arr.remove(this.size); // undo with an O(1) removal at the end
+    }
+
+    public Object remove() {
+        Integer removed = this.arr.remove(this.nextIndex());
+        this.arr.add(this.size - 1, removed); // undo with an O(1) append at the end
+        return removed;
+    }
+
+    public Object append() {
+        return this.arr.append(this.other);
+    }
+
+    public Object insert() {
+        return this.arr.insert(this.nextIndex(), this.other);
+    }
+
+    public Object extract() {
+        int index = this.nextIndex();
+        return this.arr.extract(index, Math.min(this.size, index + this.window));
+    }
+
+    public Object splitPrefix() {
+        return this.arr.splitPrefix(this.nextIndex());
+    }
+
+    public Object splitSuffix() {
+        return this.arr.splitSuffix(this.nextIndex());
+    }
+
+    public Object delete() {
+        int index = this.nextIndex();
+        return this.arr.delete(index, Math.min(this.size, index + this.window));
+    }
+
+    public Object asString() {
+        return this.arr.toString();
+    }
+}
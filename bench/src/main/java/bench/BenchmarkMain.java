@@ -0,0 +1,33 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar. It runs JMH the same way as org.openjdk.jmh.Main, except that results
+ * are written as JSON unless -rf picks another format, and to jmh-result.json unless -rff picks another file,
+ * so every run can be compared against the results of earlier releases.
+ */
+public class BenchmarkMain {
+
+    /**
+     * Runs JMH with JSON results by default.
+     * @param args the JMH command line options.
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<String>(Arrays.asList(args));
+        if (!options.contains("-h") && !options.contains("-l")) {
+            // JMH writes CSV by default, even into a file named with -rff, so the format is set on its own
+            if (!options.contains("-rf")) {
+                options.add(0, "-rf");
+                options.add(1, "json");
+            }
+            if (!options.contains("-rff")) {
+                options.add(0, "-rff");
+                options.add(1, "jmh-result.json");
+            }
+        }
+        org.openjdk.jmh.Main.main(options.toArray(new String[0]));
+    }
+}
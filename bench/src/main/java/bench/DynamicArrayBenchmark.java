@@ -0,0 +1,126 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for every DynamicArrayADT operation, for each implementation, array size and index distribution.
+ * The full matrix takes a long time, so narrow it down with -p, for example
+ * {@code java -jar target/benchmarks.jar DynamicArrayBenchmark.get -p size=1000000 -rf json -rff get.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class DynamicArrayBenchmark {
+
+    /**
+     * the DynamicArrayADT implementation being measured
+     */
+    @Param({"DynamicArray", "PersistentDynamicArray", "GapBufferDynamicArray", "OffHeapDynamicArray"})
+    public String implementation;
+
+    /**
+     * the number of elements in the array
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * where the indicies passed to the operations fall
+     */
+    @Param({"random", "head", "tail"})
+    public String distribution;
+
+    /**
+     * the array and indicies being measured
+     */
+    private Workload workload;
+
+    /**
+     * Builds a new array for each trial. The workload is loaded by name because it lives in the unnamed package.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        this.workload = (Workload) Class.forName("DynamicArrayWorkload").getDeclaredConstructor().newInstance();
+        this.workload.setUp(this.implementation, this.size, this.distribution);
+    }
+
+    /**
+     * Releases the array after each trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.workload.tearDown();
+    }
+
+    @Benchmark
+    public Object set() {
+        return this.workload.set();
+    }
+
+    @Benchmark
+    public Object get() {
+        return this.workload.get();
+    }
+
+    @Benchmark
+    public Object add() {
+        return this.workload.add();
+    }
+
+    @Benchmark
+    public Object remove() {
+        return this.workload.remove();
+    }
+
+    @Benchmark
+    public Object append() {
+        return this.workload.append();
+    }
+
+    @Benchmark
+    public Object insert() {
+        return this.workload.insert();
+    }
+
+    @Benchmark
+    public Object extract() {
+        return this.workload.extract();
+    }
+
+    @Benchmark
+    public Object splitPrefix() {
+        return this.workload.splitPrefix();
+    }
+
+    @Benchmark
+    public Object splitSuffix() {
+        return this.workload.splitSuffix();
+    }
+
+    @Benchmark
+    public Object delete() {
+        return this.workload.delete();
+    }
+
+    @Benchmark
+    public Object toStringOp() {
+        return this.workload.asString();
+    }
+}
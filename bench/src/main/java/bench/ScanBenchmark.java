@@ -0,0 +1,100 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the scans and bulk operations of CharDynamicArray, each next to the same operation done
+ * element by element through get(i) on a DynamicArray&lt;Character&gt;, for example
+ * {@code java -jar target/benchmarks.jar ScanBenchmark -p size=100000 -rff scans.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanBenchmark {
+
+    /**
+     * the number of elements in the arrays
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * the arrays being scanned
+     */
+    private ScanWorkload workload;
+
+    /**
+     * Builds the arrays for each trial. The workload is loaded by name because it lives in the unnamed package.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        this.workload = (ScanWorkload) Class.forName("CharScanWorkload").getDeclaredConstructor().newInstance();
+        this.workload.setUp(this.size);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return this.workload.indexOf();
+    }
+
+    @Benchmark
+    public int indexOfByGet() {
+        return this.workload.indexOfByGet();
+    }
+
+    @Benchmark
+    public int count() {
+        return this.workload.count();
+    }
+
+    @Benchmark
+    public int countByGet() {
+        return this.workload.countByGet();
+    }
+
+    @Benchmark
+    public boolean equalsOp() {
+        return this.workload.equalsOp();
+    }
+
+    @Benchmark
+    public boolean equalsByGet() {
+        return this.workload.equalsByGet();
+    }
+
+    @Benchmark
+    public int hashCodeOp() {
+        return this.workload.hashCodeOp();
+    }
+
+    @Benchmark
+    public int hashCodeByGet() {
+        return this.workload.hashCodeByGet();
+    }
+
+    @Benchmark
+    public int fill() {
+        return this.workload.fill();
+    }
+
+    @Benchmark
+    public int fillBySet() {
+        return this.workload.fillBySet();
+    }
+}
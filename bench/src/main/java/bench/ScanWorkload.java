@@ -0,0 +1,46 @@
+package bench;
+
+/**
+ * Interface between ScanBenchmark and CharDynamicArray, for the same reason as Workload: the benchmark has to be
+ * in a named package, and CharDynamicArray is in the unnamed package. It is implemented by CharScanWorkload.
+ * Each scan is measured twice, once with the CharDynamicArray method and once the way callers did it before,
+ * element by element through get(i) on a DynamicArray&lt;Character&gt;.
+ */
+public interface ScanWorkload {
+
+    /**
+     * Method to build the arrays being scanned.
+     * @param size the number of elements in each array.
+     */
+    public void setUp(int size);
+
+    /** @return the result of CharDynamicArray.indexOf for a value that isn't stored, so the whole array is scanned. */
+    public int indexOf();
+
+    /** @return the same search through get(i) on a DynamicArray&lt;Character&gt;. */
+    public int indexOfByGet();
+
+    /** @return the result of CharDynamicArray.count. */
+    public int count();
+
+    /** @return the same count through get(i) on a DynamicArray&lt;Character&gt;. */
+    public int countByGet();
+
+    /** @return the result of CharDynamicArray.equals with an equal copy. */
+    public boolean equalsOp();
+
+    /** @return the same comparison through get(i) on two DynamicArray&lt;Character&gt;. */
+    public boolean equalsByGet();
+
+    /** @return the result of CharDynamicArray.hashCode. */
+    public int hashCodeOp();
+
+    /** @return the same hash, one element at a time through get(i) on a DynamicArray&lt;Character&gt;. */
+    public int hashCodeByGet();
+
+    /** @return the size after CharDynamicArray.fill over the whole array. */
+    public int fill();
+
+    /** @return the size after the same fill through set(i) on a DynamicArray&lt;Character&gt;. */
+    public int fillBySet();
+}
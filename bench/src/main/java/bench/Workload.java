@@ -0,0 +1,62 @@
+package bench;
+
+/**
+ * Interface between the JMH benchmarks and the DynamicArrayADT implementations.
+ * JMH only accepts benchmark classes in a named package, and a class in a named package can't refer to
+ * classes in the unnamed package where DynamicArray lives, so the benchmarks call every operation through
+ * this interface instead. It is implemented by DynamicArrayWorkload in the unnamed package, which is the
+ * only implementation ever loaded, so the JIT compiler inlines these calls.
+ */
+public interface Workload {
+
+    /**
+     * Method to build the array being measured and the indicies the operations use.
+     * @param implementation the simple name of the DynamicArrayADT class, like "DynamicArray".
+     * @param size the number of elements in the array.
+     * @param distribution where the indicies fall: "random", "head" or "tail".
+     */
+    public void setUp(String implementation, int size, String distribution);
+
+    /**
+     * Method to release anything the array holds outside the heap.
+     */
+    public void tearDown();
+
+    /**
+     * Each of these methods performs one call of the DynamicArrayADT method with the same name,
+     * at the next index from the distribution, and returns its result so JMH can consume it.
+     * add and remove are each followed by an O(1) removal or append at the end, so the size stays the same.
+     * @return the result of the operation.
+     */
+    public Object set();
+
+    /** @return the result of get. */
+    public Object get();
+
+    /** @return the size after add, and the removal that undoes it. */
+    public Object add();
+
+    /** @return the result of remove. */
+    public Object remove();
+
+    /** @return the result of appending another array a tenth of the size. */
+    public Object append();
+
+    /** @return the result of inserting another array a tenth of the size. */
+    public Object insert();
+
+    /** @return the result of extracting up to a tenth of the array. */
+    public Object extract();
+
+    /** @return the result of splitPrefix. */
+    public Object splitPrefix();
+
+    /** @return the result of splitSuffix. */
+    public Object splitSuffix();
+
+    /** @return the result of deleting up to a tenth of the array. */
+    public Object delete();
+
+    /** @return the result of toString. */
+    public Object asString();
+}